@@ -264,6 +264,10 @@ public static void postState(GameState state, GameStateEvent event) {
         check(game);
         game.setState(state);
         postEvent(event, true);
+        if (state == GameState.SERVER_STOPPING || state == GameState.GAME_STOPPING) {
+            // Staged config saves are otherwise written by a scheduler task that may never run again
+            getConfigSaveManager().flush();
+        }
     }
 
     public static void postShutdownEvents() {
@@ -282,10 +282,24 @@ public static MapStorage getWorldMapStorage(World world) {
         return world.getMapStorage();
     }
 
-    public static int countEntities(WorldServer worldServer, net.minecraft.entity.EnumCreatureType type, boolean forSpawnCount) {
+    public static int countEntities(WorldServer worldServer, EnumCreatureType type, boolean forSpawnCount) {
         return worldServer.countEntities(type.getCreatureClass());
     }
 
+    /**
+     * Gets whether the entity counts towards the spawn limit of the given
+     * creature type, matching the entities counted by
+     * {@link #countEntities(WorldServer, EnumCreatureType, boolean)}.
+     *
+     * @param entity The entity
+     * @param type The creature type
+     * @return True if the entity is counted as that creature type
+     */
+    public static boolean countsTowardsSpawnLimit(Entity entity, EnumCreatureType type) {
+        return (!(entity instanceof EntityLiving) || !((EntityLiving) entity).isNoDespawnRequired())
+               && type.getCreatureClass().isAssignableFrom(entity.getClass());
+    }
+
     public static int getMaxSpawnPackSize(EntityLiving entityLiving) {
         return entityLiving.getMaxSpawnedInChunk();
     }
@@ -90,17 +90,18 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState extendedState;
     private final UUID worldUniqueId;
     private final Vector3i pos;
+    // Internal use only
+    private final BlockPos blockPos;
     private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
-    private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
-    private ImmutableSet<ImmutableValue<?>> valueSet;
+    // Lazily built, most captured snapshots are restored or discarded without ever being queried for data
+    @Nullable private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
+    @Nullable private ImmutableSet<ImmutableValue<?>> valueSet;
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
     @Nullable final NBTTagCompound compound;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
-    // Internal use only
-    private final BlockPos blockPos;
     private SpongeBlockChangeFlag changeFlag;
     @Nullable private WeakReference<WorldServer> world;
     public BlockChange blockChange; // used for post event
@@ -116,16 +117,10 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
 
         // This avoids cross contamination of block state based values versus tile entity values.
         // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
         this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound;
+        // The builder has to copy the compound before modifying it again
+        builder.compoundShared = this.compound != null;
         this.changeFlag = builder.flag;
     }
 
@@ -180,7 +175,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
         // this way we guarantee an exit.
         try (PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext()) {
             context.buildAndSwitch();
-            BlockPos pos = VecHelper.toBlockPos(this.pos);
+            BlockPos pos = getBlockPos();
             if (!world.isValid(pos)) { // Invalid position. Inline this check
                 return false;
             }
@@ -199,13 +194,14 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
             if (this.compound != null) {
                 TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    // The compound may be shared with other snapshots, never hand it to the tile entity
+                    te.readFromNBT(this.compound.copy());
                 }
                 if (te == null) {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = TileEntity.create(world, this.compound);
+                        te = TileEntity.create(world, this.compound.copy());
                         if (te != null) {
                             world.getChunk(pos).addTileEntity(te);
                         }
@@ -226,7 +222,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
                         }
                         printer.add()
                             .add("Desired World: " + this.worldUniqueId)
-                            .add("Position: " + this.pos)
+                            .add("Position: " + pos)
                             .add("Desired BlockState: " + this.blockState);
                         printer.add();
                         printer.log(SpongeImpl.getLogger(), Level.ERROR);
@@ -284,13 +280,14 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
+        final BlockPos pos = getBlockPos();
         final DataContainer container = DataContainer.createNew()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(Queries.WORLD_ID, this.worldUniqueId.toString())
             .createView(Constants.Sponge.SNAPSHOT_WORLD_POSITION)
-                .set(Queries.POSITION_X, this.pos.getX())
-                .set(Queries.POSITION_Y, this.pos.getY())
-                .set(Queries.POSITION_Z, this.pos.getZ())
+                .set(Queries.POSITION_X, pos.getX())
+                .set(Queries.POSITION_Y, pos.getY())
+                .set(Queries.POSITION_Z, pos.getZ())
             .getContainer()
             .set(Constants.Block.BLOCK_STATE, this.blockState);
 
@@ -415,8 +412,8 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((E) this.keyValueMap.get(key).get());
+        if (getTileMap().containsKey(key)) {
+            return Optional.of((E) getTileMap().get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
         }
@@ -443,13 +440,18 @@ private ImmutableSet<ImmutableValue<?>> getValueSet() {
 
     private ImmutableSet<ImmutableValue<?>> getTileValueSet() {
         if (this.valueSet == null) {
-            this.valueSet = ImmutableSet.copyOf(this.getTileMap().values());
+            final ImmutableMap<Key<?>, ImmutableValue<?>> tileMap = this.getTileMap();
+            this.valueSet = tileMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(tileMap.values());
         }
         return this.valueSet;
     }
 
     private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
         if (this.keyValueMap == null) {
+            if (this.extraData.isEmpty()) {
+                this.keyValueMap = ImmutableMap.of();
+                return this.keyValueMap;
+            }
             final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
             for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
                 for (ImmutableValue<?> value : manipulator.getValues()) {
@@ -471,8 +473,8 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((V) this.keyValueMap.get(key).asMutable());
+        if (getTileMap().containsKey(key)) {
+            return Optional.of((V) getTileMap().get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
         }
@@ -482,7 +484,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -516,13 +518,13 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
         builder.blockState(this.blockState)
             .extendedState(this.extendedState)
-            .position(this.pos)
+            .position(getPosition())
             .worldId(this.worldUniqueId);
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
         }
         if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
+            builder.sharedNbt(this.compound);
         }
         return builder;
     }
@@ -541,7 +543,7 @@ public BlockPos getBlockPos() {
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("worldUniqueId", this.worldUniqueId)
-                .add("position", this.pos)
+                .add("position", getBlockPos())
                 .add("blockState", this.blockState)
                 .add("extendedState", this.extendedState)
                 .toString();
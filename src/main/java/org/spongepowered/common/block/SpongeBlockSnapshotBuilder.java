@@ -74,6 +74,8 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    // Set when the compound is also referenced by a snapshot, it is copied before being modified
+    boolean compoundShared;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
 
 
@@ -118,6 +120,10 @@ public SpongeBlockSnapshotBuilder extendedState(final IBlockState extended) {
     public SpongeBlockSnapshotBuilder position(final Vector3i position) {
         this.coords = checkNotNull(position);
         if (this.compound != null) {
+            if (this.compoundShared) {
+                this.compound = this.compound.copy();
+                this.compoundShared = false;
+            }
             this.compound.setInteger(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.setInteger(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
             this.compound.setInteger(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, position.getZ());
@@ -133,6 +139,7 @@ public SpongeBlockSnapshotBuilder from(final Location<World> location) {
         if (this.blockState.getType() instanceof ITileEntityProvider) {
             if (location.hasTileEntity()) {
                 this.compound = new NBTTagCompound();
+                this.compoundShared = false;
                 final org.spongepowered.api.block.tileentity.TileEntity te = location.getTileEntity().get();
                 ((TileEntity) te).writeToNBT(this.compound);
                 this.manipulators = ((CustomDataHolderBridge) te).getCustomManipulators().stream()
@@ -157,6 +164,18 @@ public SpongeBlockSnapshotBuilder notifier(final UUID uuid) {
 
     public SpongeBlockSnapshotBuilder unsafeNbt(final NBTTagCompound compound) {
         this.compound = compound.copy();
+        this.compoundShared = false;
+        return this;
+    }
+
+    /**
+     * Uses the compound of an existing snapshot without copying it. Snapshots
+     * never modify their compound, so it is only copied once this builder
+     * needs to change it.
+     */
+    SpongeBlockSnapshotBuilder sharedNbt(final NBTTagCompound compound) {
+        this.compound = compound;
+        this.compoundShared = true;
         return this;
     }
 
@@ -212,7 +231,7 @@ public SpongeBlockSnapshotBuilder from(final BlockSnapshot holder) {
         if (holder instanceof SpongeBlockSnapshot) {
             final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).compound;
             if (compound != null) {
-                this.compound = compound.copy();
+                this.sharedNbt(compound);
             }
         }
         return this;
@@ -227,6 +246,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.compoundShared = false;
         return this;
     }
 
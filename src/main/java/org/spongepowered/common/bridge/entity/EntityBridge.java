@@ -65,6 +65,17 @@ public interface EntityBridge {
      */
     void bridge$setWorldTracked(boolean tracked);
 
+    /**
+     * Gets the creature types, as a bit mask of
+     * {@link net.minecraft.entity.EnumCreatureType} ordinals, that this
+     * entity is currently counted as by the chunk it is in.
+     *
+     * @return The counted creature types
+     */
+    int bridge$getCreatureTypeMask();
+
+    void bridge$setCreatureTypeMask(int mask);
+
     boolean removePassengers(DismountType type);
 
     void bridge$setImplVelocity(Vector3d velocity);
@@ -30,5 +30,14 @@ public interface HopperOptimizationBridge {
 
     void hopper$setCancelDirtyUpdate(boolean canMarkDirty);
 
+    /**
+     * Gets the number of times this tile entity was marked dirty, including
+     * the calls that were cancelled through {@link #hopper$setCancelDirtyUpdate(boolean)}.
+     * Hoppers compare this against the value seen during their last failed
+     * transfer to know whether retrying can possibly succeed.
+     *
+     * @return The modification count
+     */
+    int hopper$getModificationCount();
 
 }
@@ -29,6 +29,7 @@
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumSkyBlock;
@@ -155,6 +156,17 @@ public interface ServerWorldBridge extends WorldBridge {
 
     void bridge$incrementChunkLoadCount();
 
+    /**
+     * Gets the number of entities in the loaded chunks of this world that
+     * count towards the spawn limit of the given creature type.
+     *
+     * @param type The creature type
+     * @return The number of entities counted
+     */
+    int bridge$getCreatureCount(EnumCreatureType type);
+
+    void bridge$adjustCreatureCount(EnumCreatureType type, int delta);
+
     void bridge$updateConfigCache();
 
     SpongeProxyBlockAccess bridge$getProxyAccess();
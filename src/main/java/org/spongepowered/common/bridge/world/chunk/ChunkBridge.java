@@ -27,6 +27,8 @@
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumSkyBlock;
@@ -41,6 +43,7 @@
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
+import org.spongepowered.common.network.CachedChunkPacketData;
 
 import java.util.List;
 import java.util.Map;
@@ -102,9 +105,25 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     void fill(ChunkPrimer primer);
 
-    boolean isSpawning();
+    /**
+     * Gets the number of entities in this chunk that count towards the
+     * spawn limit of the given creature type.
+     *
+     * @param type The creature type
+     * @return The number of entities counted
+     */
+    int getCreatureCount(EnumCreatureType type);
+
+    /**
+     * Re-evaluates which creature types the given entity, which must be
+     * in this chunk, counts towards. Used when an entity changes in a way
+     * that affects {@link org.spongepowered.common.SpongeImplHooks#countsTowardsSpawnLimit}.
+     *
+     * @param entity The entity
+     */
+    void updateCreatureCounts(Entity entity);
 
-    void setIsSpawning(boolean spawning);
+    void removeCreatureCounts(Entity entity);
 
     AtomicInteger getPendingLightUpdates();
 
@@ -139,4 +158,15 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
     void setTileEntity(BlockPos targetPos, TileEntity added);
 
     Chunk[] getNeighborArray();
+
+    /**
+     * Gets the encoded full chunk packet data shared between all players
+     * that started watching this chunk since it was last changed, if any.
+     *
+     * @return The cached packet data, or null if it was invalidated
+     */
+    @Nullable
+    CachedChunkPacketData getCachedChunkPacketData();
+
+    void setCachedChunkPacketData(@Nullable CachedChunkPacketData data);
 }
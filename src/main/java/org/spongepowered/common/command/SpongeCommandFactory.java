@@ -99,7 +99,10 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.SpongeEventManager;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.network.ChannelMetrics;
+import org.spongepowered.common.network.SpongeNetworkManager;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
 import org.spongepowered.common.util.SpongeHooks;
@@ -162,6 +165,7 @@ public class SpongeCommandFactory {
     private static final Text COMMAND_KEY = Text.of("command");
     private static final Text PLUGIN_KEY = Text.of("plugin");
     private static final Text ENABLED_KEY = Text.of("enabled");
+    private static final Text ACTION_KEY = Text.of("action");
     private static final CommandElement COMMAND_ARGUMENT = new CommandElement(COMMAND_KEY) {
 
         @Nullable
@@ -212,6 +216,8 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeEventsCommand(), "events");
+        nonFlagChildren.register(createSpongeChannelsCommand(), "channels");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -234,6 +240,8 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("events"), LONG_INDENT, "Records events that are posted without any listener\n",
+                INDENT, title("channels"), LONG_INDENT, "Lists plugin message channel throughput\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -587,6 +595,49 @@ private static CommandSpec createSpongeAuditCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeEventsCommand() {
+        return CommandSpec.builder()
+            .description(Text.of("Records events that are posted without any listener"))
+            .extendedDescription(Text.of("Events listed here are built by the implementation although nothing listens to them.\n",
+                "Use start, stop and reset to control recording, report to show the results."))
+            .permission("sponge.command.events")
+            .arguments(optional(choices(ACTION_KEY, ImmutableMap.of("start", "start", "stop", "stop", "reset", "reset", "report", "report"))))
+            .executor((src, args) -> {
+                final SpongeEventManager eventManager = (SpongeEventManager) Sponge.getEventManager();
+                switch (args.<String>getOne(ACTION_KEY).orElse("report")) {
+                    case "start":
+                        eventManager.setRecordUnhandledPosts(true);
+                        src.sendMessage(Text.of("Started recording events posted without listeners"));
+                        return CommandResult.success();
+                    case "stop":
+                        eventManager.setRecordUnhandledPosts(false);
+                        src.sendMessage(Text.of("Stopped recording events posted without listeners"));
+                        return CommandResult.success();
+                    case "reset":
+                        eventManager.resetUnhandledPosts();
+                        src.sendMessage(Text.of("Cleared recorded events"));
+                        return CommandResult.success();
+                    default:
+                        final List<Map.Entry<Class<?>, Long>> unhandled = eventManager.getUnhandledPosts();
+                        final List<Text> contents = new ArrayList<>(unhandled.size());
+                        for (Map.Entry<Class<?>, Long> entry : unhandled) {
+                            contents.add(Text.of(TextColors.GREEN, entry.getValue(), TextColors.RESET, " - ", entry.getKey().getName()));
+                        }
+                        if (contents.isEmpty()) {
+                            contents.add(Text.of(eventManager.isRecordingUnhandledPosts() ? "No events were posted without listeners yet"
+                                : "Nothing recorded, use /sponge events start to begin recording"));
+                        }
+                        PaginationList.builder()
+                            .title(Text.of(TextColors.YELLOW, "Events posted without listeners"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(contents)
+                            .build().sendTo(src);
+                        return CommandResult.success();
+                }
+            })
+            .build();
+    }
+
     public static Text title(String title) {
         return Text.of(TextColors.GREEN, title);
     }
@@ -814,6 +865,25 @@ private static CommandSpec createSpongeWhichCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeChannelsCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.channels")
+            .description(Text.of("Lists plugin message channel throughput"))
+            .executor((src, args) -> {
+                final Collection<ChannelMetrics> metrics = SpongeNetworkManager.getAllChannelMetrics();
+                if (metrics.isEmpty()) {
+                    src.sendMessage(Text.of("No plugin channels have been registered."));
+                    return CommandResult.success();
+                }
+                for (ChannelMetrics channel : metrics) {
+                    src.sendMessage(Text.of(LIST_ITEM_TEXT, hl(channel.getChannel()), ": in ", channel.getMessagesIn(), " (",
+                        channel.getBytesIn(), " bytes), out ", channel.getMessagesOut(), " (", channel.getBytesOut(), " bytes)"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
     private static CommandSpec createSpongeTPSCommand() {
         return CommandSpec.builder()
             .permission("sponge.command.tps")
@@ -837,6 +907,10 @@ private static CommandSpec createSpongeTPSCommand() {
                     THREE_DECIMAL_DIGITS_FORMATTER.format(Math.min(1000.0 / (serverMeanTickTime), 20)),
                     TextColors.RESET, ", Mean: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.
                         format(serverMeanTickTime), "ms"));
+                if (SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().deduplicateNeighborNotifications()) {
+                    src.sendMessage(Text.of("Deduplicated neighbor notifications: ", TextColors.LIGHT_PURPLE,
+                        PhaseTracker.getInstance().getDeduplicatedNeighborNotifications()));
+                }
                 return CommandResult.success();
             })
             .build();
@@ -45,11 +45,17 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.util.IpSet;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
@@ -97,10 +103,24 @@ public enum Type {
     @Nullable private final SpongeConfig<?> parent;
 
     /**
-     * The loader (mapped to a file) used to read/write the config to disk
+     * The loader (mapped to a file) used to read the config from disk
      */
     private HoconConfigurationLoader loader;
 
+    /**
+     * The file this config is written to
+     */
+    private Path path;
+
+    /**
+     * Save nodes are numbered when they are created so a write of older
+     * content never replaces a newer one, and the content last written is
+     * remembered so unchanged configs are not written again.
+     */
+    private long saveSequence;
+    private long writtenSequence;
+    @Nullable private String writtenContent;
+
     /**
      * A node representation of "whats actually in the file".
      */
@@ -150,11 +170,13 @@ public SpongeConfig(Type type, Path path, String modId, SpongeConfig<?> parent,
                 Files.createFile(path);
             }
 
+            this.path = path;
             this.loader = HoconConfigurationLoader.builder().setPath(path).build();
             this.configMapper = (ObjectMapper.BoundInstance) ObjectMapper.forClass(this.type.type).bindToNew();
 
             // If load fails, avoid saving as this can mess up world configs.
-            if (!load()) {
+            // Parents are already loaded at this point, so only their data is merged.
+            if (!load(false)) {
                 return;
             }
             // In order for the removeDuplicates method to function properly, it is extremely
@@ -188,17 +210,8 @@ public boolean saveNow() {
             return false;
         }
         try {
-            // save from the mapped object --> node
-            CommentedConfigurationNode saveNode = SimpleCommentedConfigurationNode.root(LOADER_OPTIONS);
-            this.configMapper.serialize(saveNode.getNode(this.modId));
-
-            // before saving this config, remove any values already declared with the same value on the parent
-            if (this.parent != null) {
-                removeDuplicates(saveNode);
-            }
-
             // save the data to disk
-            this.loader.save(saveNode);
+            createSaveNode().write();
 
             // In order for the removeDuplicates method to function properly, it is extremely
             // important to avoid running save on parent BEFORE children save. Doing so will
@@ -215,7 +228,101 @@ public boolean saveNow() {
         }
     }
 
+    /**
+     * Serializes the current state of this config into a node that can be
+     * written later, possibly from another thread, with {@link SaveNode#write()}.
+     *
+     * @return The node to save
+     * @throws ObjectMappingException If the config could not be serialized
+     */
+    SaveNode createSaveNode() throws ObjectMappingException {
+        // save from the mapped object --> node
+        CommentedConfigurationNode saveNode = SimpleCommentedConfigurationNode.root(LOADER_OPTIONS);
+        this.configMapper.serialize(saveNode.getNode(this.modId));
+
+        // before saving this config, remove any values already declared with the same value on the parent
+        if (this.parent != null) {
+            removeDuplicates(saveNode);
+        }
+        synchronized (this) {
+            return new SaveNode(this, saveNode, ++this.saveSequence);
+        }
+    }
+
+    /**
+     * Adds save nodes for this config and its parents, children before
+     * parents, to the given map unless they are already present.
+     *
+     * @param nodes The nodes to add to
+     * @throws ObjectMappingException If a config could not be serialized
+     */
+    void createSaveNodes(Map<SpongeConfig<?>, SaveNode> nodes) throws ObjectMappingException {
+        if (this.isDummy) {
+            return;
+        }
+        if (!nodes.containsKey(this)) {
+            nodes.put(this, createSaveNode());
+        }
+        if (this.parent != null) {
+            this.parent.createSaveNodes(nodes);
+        }
+    }
+
+    static final class SaveNode {
+
+        private final SpongeConfig<?> config;
+        private final CommentedConfigurationNode node;
+        private final long sequence;
+
+        SaveNode(SpongeConfig<?> config, CommentedConfigurationNode node, long sequence) {
+            this.config = config;
+            this.node = node;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Renders the node and replaces the config file with it, unless a
+         * newer node was written already or the content did not change. The
+         * file is written next to the config and moved over it, so a crash
+         * while saving never leaves a truncated config behind.
+         *
+         * @throws IOException If the config could not be written
+         */
+        void write() throws IOException {
+            final StringWriter rendered = new StringWriter();
+            HoconConfigurationLoader.builder().setSink(() -> new BufferedWriter(rendered)).build().save(this.node);
+            final String content = rendered.toString();
+
+            synchronized (this.config) {
+                if (this.sequence < this.config.writtenSequence || content.equals(this.config.writtenContent)) {
+                    return;
+                }
+                final Path target = this.config.path;
+                final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+                Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                this.config.writtenSequence = this.sequence;
+                this.config.writtenContent = content;
+            }
+        }
+    }
+
     public boolean load() {
+        return load(true);
+    }
+
+    /**
+     * Loads this config from disk and merges in the data of its parent.
+     *
+     * @param reloadParent Whether the parent is read from disk again first,
+     *     otherwise its data already in memory is merged
+     * @return {@code true} if the config was loaded
+     */
+    private boolean load(boolean reloadParent) {
         if (this.isDummy) {
             return true;
         }
@@ -238,13 +345,18 @@ public boolean load() {
 
             // store "what's in the file" separately in memory
             this.fileData = loadedNode;
+            synchronized (this) {
+                this.writtenContent = new String(Files.readAllBytes(this.path), StandardCharsets.UTF_8);
+            }
 
             // make a copy of the file data
             this.data = this.fileData.copy();
 
             // merge with settings from parent
             if (this.parent != null) {
-                this.parent.load();
+                if (reloadParent) {
+                    this.parent.load();
+                }
                 this.data.mergeValuesFrom(this.parent.data);
             }
 
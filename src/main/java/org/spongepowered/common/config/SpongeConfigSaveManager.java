@@ -24,14 +24,23 @@
  */
 package org.spongepowered.common.config;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import org.spongepowered.api.GameState;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.HashSet;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
@@ -40,31 +49,87 @@
  * this manager acts as a staging ground for file saves so that we can do them
  * in batches.
  *
+ * <p>While the server is running, saves are debounced: configs are staged
+ * and serialized together on the main thread a second after the first
+ * request, then rendered and written on a dedicated thread. Configs whose
+ * content did not change are not written at all. Anything still staged or
+ * being written is flushed when the server or game starts stopping.</p>
+ *
  * <p>This class is intended to be thread safe through the use of
  * synchronisation.</p>
  */
 public class SpongeConfigSaveManager {
 
-    private final Set<SpongeConfig<?>> stagedConfigs = new HashSet<>();
+    private static final int SAVE_DELAY_TICKS = 20;
+
+    private final Set<SpongeConfig<?>> stagedConfigs = new LinkedHashSet<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Sponge - Config Writer").setDaemon(true).build());
+    @Nullable private Task scheduledFlush;
+    private CompletableFuture<Void> pendingWrites = CompletableFuture.completedFuture(null);
 
     public void save(SpongeConfig<?> spongeConfig) {
         synchronized (this) {
-            if (!SpongeImpl.isInitialized() || // if we're not initialised, then we're likely testing and should just pass on through.
-                    SpongeImpl.getGame().getState() == GameState.SERVER_STARTED || SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
+            if (!SpongeImpl.isInitialized() || SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
+                // if we're not initialised, then we're likely testing and should just pass on through.
                 if (!this.stagedConfigs.isEmpty()) {
                     // We want to save and flush now, but add this into the set in case it is already present.
                     this.stagedConfigs.add(spongeConfig);
                     flush();
                 } else {
                     // just save
+                    awaitWrites();
                     spongeConfig.saveNow();
                 }
             } else {
                 this.stagedConfigs.add(spongeConfig);
+                if (SpongeImpl.getGame().getState() == GameState.SERVER_STARTED && this.scheduledFlush == null) {
+                    this.scheduledFlush = Task.builder()
+                        .name("Sponge - Config Save")
+                        .delayTicks(SAVE_DELAY_TICKS)
+                        .execute(this::flushBehind)
+                        .submit(SpongeImpl.getPlugin());
+                }
             }
         }
     }
 
+    /**
+     * Serializes all staged configs and hands them to the writer thread.
+     * Runs on the main thread, where the config objects are modified.
+     */
+    private void flushBehind() {
+        final Map<SpongeConfig<?>, SpongeConfig.SaveNode> nodes = new LinkedHashMap<>();
+        synchronized (this) {
+            this.scheduledFlush = null;
+            for (SpongeConfig<?> spongeConfig : this.stagedConfigs) {
+                try {
+                    spongeConfig.createSaveNodes(nodes);
+                } catch (ObjectMappingException e) {
+                    SpongeImpl.getLogger().error("Failed to save configuration", e);
+                }
+            }
+            this.stagedConfigs.clear();
+            if (nodes.isEmpty()) {
+                return;
+            }
+            final List<SpongeConfig.SaveNode> toWrite = new ArrayList<>(nodes.values());
+            this.pendingWrites = this.pendingWrites.thenRunAsync(() -> {
+                for (SpongeConfig.SaveNode node : toWrite) {
+                    try {
+                        node.write();
+                    } catch (IOException e) {
+                        SpongeImpl.getLogger().error("Failed to save configuration", e);
+                    }
+                }
+            }, this.writer);
+        }
+    }
+
+    private void awaitWrites() {
+        this.pendingWrites.join();
+    }
+
     /**
      * Flush a specific config. Returns true if successful or if the config was
      * not in the set. False if there was an error on save.
@@ -74,6 +139,7 @@ public void save(SpongeConfig<?> spongeConfig) {
      */
     public boolean flush(SpongeConfig<?> config) {
         synchronized (this) {
+            awaitWrites();
             if (this.stagedConfigs.remove(config)) {
                 return config.saveNow();
             }
@@ -83,14 +149,17 @@ public boolean flush(SpongeConfig<?> config) {
     }
 
     public void flush() {
-        if (!this.stagedConfigs.isEmpty()) {
-            synchronized (this) {
-                for (SpongeConfig<?> spongeConfig : this.stagedConfigs) {
-                    spongeConfig.saveNow();
-                }
-
-                this.stagedConfigs.clear();
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.cancel();
+                this.scheduledFlush = null;
             }
+            awaitWrites();
+            for (SpongeConfig<?> spongeConfig : this.stagedConfigs) {
+                spongeConfig.saveNow();
+            }
+
+            this.stagedConfigs.clear();
         }
     }
 
@@ -26,9 +26,12 @@
 
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.api.entity.EntityType;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @ConfigSerializable
 public class EntityActivationRangeCategory extends ConfigCategory {
@@ -40,6 +43,11 @@ public class EntityActivationRangeCategory extends ConfigCategory {
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, EntityActivationModCategory> modList = new HashMap<>();
 
+    // Not a setting: activation ranges resolved from the settings above, per entity type.
+    // Reloading the config populates a new category, which drops this cache with it.
+    // Concurrent, since entities may be constructed off the main thread.
+    private final ConcurrentMap<EntityType, Integer> resolvedRanges = new ConcurrentHashMap<>();
+
     public EntityActivationRangeCategory() {
         this.defaultRanges.put("ambient", 32);
         this.defaultRanges.put("aquatic", 32);
@@ -59,4 +67,8 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, EntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public ConcurrentMap<EntityType, Integer> getResolvedRanges() {
+        return this.resolvedRanges;
+    }
 }
\ No newline at end of file
@@ -47,6 +47,11 @@ public class GlobalWorldCategory extends WorldCategory {
                                                                  + "Finally, if set to 0 or less, the default interval will be used.")
     private int gameProfileQueryTaskInterval = 4;
 
+    @Setting(value = "gameprofile-failed-lookup-retry", comment = "The time, in minutes, before a queued GameProfile lookup that failed to find a profile is tried again. (Default: 60) \n"
+                                                                + "Lookups for the same uuid are ignored until then, which avoids repeatedly querying uuids \n"
+                                                                + "that have no Mojang account, such as offline mode players.")
+    private int gameProfileFailedLookupRetry = 60;
+
     @Setting(value = "invalid-lookup-uuids", comment = "The list of uuid's that should never perform a lookup against Mojang's session server. \n"
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
@@ -76,6 +81,10 @@ public int getGameProfileQueryTaskInterval() {
         return this.gameProfileQueryTaskInterval;
     }
 
+    public int getGameProfileFailedLookupRetry() {
+        return this.gameProfileFailedLookupRetry;
+    }
+
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
@@ -96,7 +96,11 @@ public class OptimizationCategory extends ConfigCategory {
                                                    + "change, the default will be 'false' due to the inability to pre-emptively\n"
                                                    + "foretell whether mod compatibility will fail with these changes or not.\n"
                                                    + "Refer to: https://github.com/PaperMC/Paper/blob/8175ec916f31dcd130fe0884fe46bdc187d829aa/Spigot-Server-Patches/0269-Optimize-Hoppers.patch\n"
-                                                   + "for more details.")
+                                                   + "for more details.\n"
+                                                   + "Hoppers will also cache the tile entity inventories they pull from and\n"
+                                                   + "push into, skip searching for items when a full block sits above them,\n"
+                                                   + "and stop retrying a failed transfer until either inventory is marked\n"
+                                                   + "dirty again (or a second has passed).")
     private boolean optimizeHoppers = false;
 
     @Setting(value = "use-active-chunks-for-collisions", comment = "Vanilla performs a lot of is area loaded checks during\n"
@@ -111,6 +115,14 @@ public class OptimizationCategory extends ConfigCategory {
                                                                    + "chunks are loaded.")
     private boolean useActiveChunkForCollisions = false;
 
+    @Setting(value = "cache-chunk-packets", comment = "If 'true', the encoded data of full chunk packets is cached per chunk\n"
+                                                      + "so that every player who starts watching the chunk within the same\n"
+                                                      + "tick shares a single buffer, instead of re-serializing the chunk for\n"
+                                                      + "each of them. The cache is discarded as soon as a block, light value\n"
+                                                      + "or tile entity in the chunk changes. This is mostly beneficial when\n"
+                                                      + "many players join or teleport into the same area at once.")
+    private boolean cacheChunkPackets = true;
+
     public OptimizationCategory() {
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -190,4 +202,8 @@ public boolean isOptimizeHoppers() {
     public boolean isUseActiveChunkForCollisions() {
         return useActiveChunkForCollisions;
     }
+
+    public boolean useChunkPacketCache() {
+        return this.cacheChunkPackets;
+    }
 }
@@ -88,6 +88,21 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "pool-phase-contexts", comment = "If 'true', the phase contexts used for block, entity and tile entity \n"
+                                                    + "ticks, as well as neighbor notifications, are recycled once they \n"
+                                                    + "have been completed instead of being re-created, along with all of \n"
+                                                    + "their capture lists, for every single tick of every single object. \n"
+                                                    + "Only disable this if instructed to do so by Sponge.")
+    private boolean poolPhaseContexts = true;
+
+    @Setting(value = "deduplicate-captured-neighbor-notifications", comment = "If 'true', a neighbor notification captured by a phase is dropped when \n"
+                                                                            + "the same source already notified the same position, with no block or \n"
+                                                                            + "tile entity change captured in between. Vanilla style updates fan out to \n"
+                                                                            + "many overlapping positions, so this can cut down the notifications replayed \n"
+                                                                            + "after a phase considerably. Some redstone contraptions may rely on the \n"
+                                                                            + "repeated notifications, so this is disabled by default.")
+    private boolean deduplicateNeighborNotifications = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -169,6 +184,14 @@ public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
 
+    public boolean poolPhaseContexts() {
+        return this.poolPhaseContexts;
+    }
+
+    public boolean deduplicateNeighborNotifications() {
+        return this.deduplicateNeighborNotifications;
+    }
+
     public boolean isReportNullSourceBlocks() {
         return reportNullSourceBlocks;
     }
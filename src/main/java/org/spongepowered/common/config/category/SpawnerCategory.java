@@ -46,6 +46,10 @@ public class SpawnerCategory extends ConfigCategory {
     private int tickRateAquatic = 400;
     @Setting(value = "tick-rate-monster", comment = "The monster spawning tick rate. Default: 1")
     private int tickRateMonster = 1;
+    @Setting(value = "per-player-spawn-limits", comment = "If enabled, the spawn limits are applied to the creatures around each player\n"
+                                                        + "instead of the whole world. Creatures only spawn near players whose\n"
+                                                        + "surrounding chunks are below the limit. Default: false")
+    private boolean perPlayerSpawnLimits = false;
 
     public SpawnerCategory() {
         
@@ -82,4 +86,8 @@ public int getAquaticTickRate() {
     public int getMonsterTickRate() {
         return this.tickRateMonster;
     }
+
+    public boolean usePerPlayerSpawnLimits() {
+        return this.perPlayerSpawnLimits;
+    }
 }
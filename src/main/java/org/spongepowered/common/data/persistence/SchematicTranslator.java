@@ -28,6 +28,7 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.io.FastByteArrayOutputStream;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.datafix.DataFixer;
 import net.minecraft.util.datafix.FixTypes;
@@ -45,7 +46,6 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
-import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
@@ -67,9 +67,8 @@
 import org.spongepowered.common.world.schematic.GlobalPalette;
 import org.spongepowered.common.world.schematic.SpongeSchematicBuilder;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -217,14 +216,23 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
         SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
         builder.blockPalette(palette);
 
-        MutableBlockVolume buffer =
+        final ArrayMutableBlockBuffer buffer =
                 new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
 
+        // Resolve the palette once, so the ids can be stored without looking up each block state
+        final boolean[] validIds = new boolean[palette.getHighestId() + 1];
+        for (int id = 0; id < validIds.length; id++) {
+            validIds[id] = palette.get(id).isPresent();
+        }
+
         byte[] blockdata = (byte[]) updatedView.get(Constants.Sponge.Schematic.BLOCK_DATA).orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        int index = 0;
         int i = 0;
         int value = 0;
         int varint_length = 0;
+        // Blocks are stored in y, z, x order
+        int x = 0;
+        int y = 0;
+        int z = 0;
         while (i < blockdata.length) {
             value = 0;
             varint_length = 0;
@@ -240,14 +248,18 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
                 }
                 i++;
             }
-            // index = (y * length + z) * width + x
-            int y = index / (width * length);
-            int z = (index % (width * length)) / width;
-            int x = (index % (width * length)) % width;
-            BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state);
-
-            index++;
+            if (value >= validIds.length || !validIds[value]) {
+                throw new InvalidDataException(String.format("Unknown palette id %d in the BlockData of the Schematic", value));
+            }
+            buffer.setBlockId(x - offset[0], y - offset[1], z - offset[2], value);
+
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
         }
         builder.blocks(buffer);
 
@@ -273,10 +285,10 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
                     }
                     biomeJ++;
                 }
-                int z = (biomeIndex % (width * length)) / width;
-                int x = (biomeIndex % (width * length)) % width;
+                int biomeZ = (biomeIndex % (width * length)) / width;
+                int biomeX = (biomeIndex % (width * length)) % width;
                 BiomeType type = biomePalette.get(bVal).get();
-                biomeBuffer.setBiome(x - offset[0], 0, z - offset[2], type);
+                biomeBuffer.setBiome(biomeX - offset[0], 0, biomeZ - offset[2], type);
 
                 biomeIndex++;
             }
@@ -391,42 +403,43 @@ public DataView addTo(Schematic schematic, DataView data) {
         data.set(Constants.Sponge.Schematic.OFFSET, offset);
 
         Palette<BlockState> palette = schematic.getPalette();
-        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
-            for (int y = 0; y < height; y++) {
-                int y0 = yMin + y;
-                for (int z = 0; z < length; z++) {
-                    int z0 = zMin + z;
-                    for (int x = 0; x < width; x++) {
-                        int x0 = xMin + x;
-                        BlockState state = schematic.getBlock(x0, y0, z0);
-                        writeIdToBuffer(buffer, palette.getOrAssign(state));
+        // FastByteArrayOutputStream isn't synchronized, unlike ByteArrayOutputStream, which matters
+        // when writing a byte at a time
+        final FastByteArrayOutputStream buffer = new FastByteArrayOutputStream(width * height * length);
+        // Neighbouring blocks are usually the same, so only look up the id when the state changes
+        BlockState lastState = null;
+        int lastId = 0;
+        for (int y = 0; y < height; y++) {
+            int y0 = yMin + y;
+            for (int z = 0; z < length; z++) {
+                int z0 = zMin + z;
+                for (int x = 0; x < width; x++) {
+                    int x0 = xMin + x;
+                    BlockState state = schematic.getBlock(x0, y0, z0);
+                    if (state != lastState) {
+                        lastId = palette.getOrAssign(state);
+                        lastState = state;
                     }
+                    writeIdToBuffer(buffer, lastId);
                 }
             }
-
-            data.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
-        } catch (IOException e) {
-            // should never reach here
         }
+        data.set(Constants.Sponge.Schematic.BLOCK_DATA, Arrays.copyOf(buffer.array, buffer.length));
 
         Palette<BiomeType> biomePalette = schematic.getBiomePalette();
         schematic.getBiomes().ifPresent(biomes -> {
-            try (ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * length)) {
-                for (int z = 0; z < length; z++) {
-                    int z0 = zMin + z;
-                    for (int x = 0; x < width; x++) {
-                        int x0 = xMin + x;
-                        BiomeType state = biomes.getBiome(x0, 0, z0);
-                        writeIdToBuffer(buffer, biomePalette.getOrAssign(state));
-                    }
-
+            final FastByteArrayOutputStream biomeBuffer = new FastByteArrayOutputStream(width * length);
+            for (int z = 0; z < length; z++) {
+                int z0 = zMin + z;
+                for (int x = 0; x < width; x++) {
+                    int x0 = xMin + x;
+                    BiomeType state = biomes.getBiome(x0, 0, z0);
+                    writeIdToBuffer(biomeBuffer, biomePalette.getOrAssign(state));
                 }
 
-                data.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
-            } catch (IOException e) {
-                // Should never reach here.
             }
 
+            data.set(Constants.Sponge.Schematic.BIOME_DATA, Arrays.copyOf(biomeBuffer.array, biomeBuffer.length));
         });
 
         if (palette.getType() == PaletteTypes.LOCAL_BLOCKS) {
@@ -498,7 +511,7 @@ public DataView addTo(Schematic schematic, DataView data) {
         return data;
     }
 
-     private void writeIdToBuffer(ByteArrayOutputStream buffer, int orAssign) {
+     private void writeIdToBuffer(FastByteArrayOutputStream buffer, int orAssign) {
         int id = orAssign;
 
         while ((id & -128) != 0) {
@@ -32,6 +32,8 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.data.manipulator.mutable.entity.SpongePersistingData;
 import org.spongepowered.common.data.processor.common.AbstractEntitySingleDataProcessor;
 import org.spongepowered.common.data.value.immutable.ImmutableSpongeValue;
@@ -49,6 +51,11 @@ public PersistingDataProcessor() {
     @Override
     protected boolean set(EntityLiving entity, Boolean value) {
         entity.persistenceRequired = value;
+        // Persistent entities don't count towards the spawn limits, so the chunk counters need to follow
+        final ChunkBridge chunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
+        if (chunk != null && !entity.world.isRemote) {
+            chunk.updateCreatureCounts(entity);
+        }
         return true;
     }
 
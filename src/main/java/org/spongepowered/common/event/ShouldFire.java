@@ -109,4 +109,10 @@ public class ShouldFire {
     public static boolean BREED_ENTITY_EVENT_FIND_MATE = false;
     public static boolean BREED_ENTITY_EVENT_BREED = false;
     public static boolean CHANGE_GAME_MODE_EVENT_TARGET_PLAYER = false;
+    public static boolean CHANGE_DATA_HOLDER_EVENT_VALUE_CHANGE = false;
+
+    public static boolean CHANGE_ENTITY_EQUIPMENT_EVENT = false;
+    public static boolean SMELT_EVENT_TICK = false;
+    public static boolean USE_ITEM_STACK_EVENT_TICK = false;
+    public static boolean SLEEPING_EVENT_TICK = false;
 }
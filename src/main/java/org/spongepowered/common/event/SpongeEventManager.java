@@ -54,6 +54,7 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.filter.CauseFilterIndex;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -79,6 +80,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -100,6 +102,11 @@ public class SpongeEventManager implements EventManager {
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
+    // Events that were built and posted without a single listener, only
+    // recorded while enabled through the sponge events command
+    private final Map<Class<?>, LongAdder> unhandledPosts = new ConcurrentHashMap<>();
+    private volatile boolean recordUnhandledPosts;
+
     /**
      * A cache of all the handlers for an event type for quick event posting.
      * <p>The cache is currently entirely invalidated if handlers are added or
@@ -400,6 +407,9 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
 
     @SuppressWarnings("unchecked")
     private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        if (handlers.isEmpty()) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
@@ -413,6 +423,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
             }
+            CauseFilterIndex.clear();
             if (event instanceof AbstractEvent) {
                 ((AbstractEvent) event).currentOrder = null;
             }
@@ -439,6 +450,8 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             }
         }
+        // Don't keep the cause alive until the next post on this thread
+        CauseFilterIndex.clear();
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -476,7 +489,11 @@ public boolean postServer(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        final List<RegisteredListener<?>> handlers = getHandlerCache(event).getListeners();
+        if (this.recordUnhandledPosts && handlers.isEmpty()) {
+            this.unhandledPosts.computeIfAbsent(event.getClass(), k -> new LongAdder()).increment();
+        }
+        return post(event, handlers);
     }
 
     public boolean post(Event event, PluginContainer plugin) {
@@ -484,4 +501,29 @@ public boolean post(Event event, PluginContainer plugin) {
                 .filter(l -> l.getPlugin().equals(plugin))
                 .collect(Collectors.toList()));
     }
+
+    public boolean isRecordingUnhandledPosts() {
+        return this.recordUnhandledPosts;
+    }
+
+    public void setRecordUnhandledPosts(boolean record) {
+        this.recordUnhandledPosts = record;
+    }
+
+    /**
+     * Gets how often each event class was posted without any listener since
+     * recording was last reset, highest counts first.
+     *
+     * @return The unhandled post counts by event class
+     */
+    public List<Map.Entry<Class<?>, Long>> getUnhandledPosts() {
+        return this.unhandledPosts.entrySet().stream()
+                .map(entry -> Maps.<Class<?>, Long>immutableEntry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void resetUnhandledPosts() {
+        this.unhandledPosts.clear();
+    }
 }
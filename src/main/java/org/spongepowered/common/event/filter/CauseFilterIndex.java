@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.filter;
+
+import org.spongepowered.api.event.cause.Cause;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Cause lookups used by generated event filters. Every listener of a single
+ * post filters against the same {@link Cause} instance, so the matches of the
+ * cause being posted are remembered per thread and shared between those
+ * listeners instead of scanning the cause again for each of them.
+ *
+ * <p>Lookups return {@code null} rather than an {@code Optional} so the
+ * generated code does not allocate per listener invocation.</p>
+ */
+public final class CauseFilterIndex {
+
+    private static final Object NONE = new Object();
+    private static final ThreadLocal<CauseFilterIndex> CURRENT = ThreadLocal.withInitial(CauseFilterIndex::new);
+
+    @Nullable private Cause cause;
+    private final Map<Class<?>, Object> first = new IdentityHashMap<>();
+    private final Map<Class<?>, Object> last = new IdentityHashMap<>();
+
+    private CauseFilterIndex() {
+    }
+
+    @Nullable
+    public static Object first(Cause cause, Class<?> target) {
+        final CauseFilterIndex index = CURRENT.get().use(cause);
+        Object found = index.first.get(target);
+        if (found == null) {
+            found = NONE;
+            final List<Object> all = cause.all();
+            for (int i = 0, size = all.size(); i < size; i++) {
+                final Object candidate = all.get(i);
+                if (target.isInstance(candidate)) {
+                    found = candidate;
+                    break;
+                }
+            }
+            index.first.put(target, found);
+        }
+        return found == NONE ? null : found;
+    }
+
+    @Nullable
+    public static Object last(Cause cause, Class<?> target) {
+        final CauseFilterIndex index = CURRENT.get().use(cause);
+        Object found = index.last.get(target);
+        if (found == null) {
+            found = NONE;
+            final List<Object> all = cause.all();
+            for (int i = all.size() - 1; i >= 0; i--) {
+                final Object candidate = all.get(i);
+                if (target.isInstance(candidate)) {
+                    found = candidate;
+                    break;
+                }
+            }
+            index.last.put(target, found);
+        }
+        return found == NONE ? null : found;
+    }
+
+    /**
+     * Forgets the cause and matches remembered for the current thread. Called
+     * once a post has finished, so the index does not keep the cause, and
+     * the worlds, players and entities within it, alive.
+     */
+    public static void clear() {
+        final CauseFilterIndex index = CURRENT.get();
+        if (index.cause != null) {
+            index.cause = null;
+            index.first.clear();
+            index.last.clear();
+        }
+    }
+
+    private CauseFilterIndex use(Cause cause) {
+        // Causes are immutable, so results only go stale once a different cause is filtered
+        if (this.cause != cause) {
+            this.cause = cause;
+            this.first.clear();
+            this.last.clear();
+        }
+        return this;
+    }
+}
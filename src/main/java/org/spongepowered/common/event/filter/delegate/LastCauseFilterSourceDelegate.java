@@ -27,19 +27,20 @@
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
-import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
-import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.common.event.filter.CauseFilterIndex;
 
 import java.lang.reflect.Parameter;
 
@@ -54,8 +55,8 @@ public LastCauseFilterSourceDelegate(Last anno) {
     @Override
     protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targetType) {
         mv.visitLdcInsn(Type.getType(targetType));
-        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Cause.class), "last",
-                "(Ljava/lang/Class;)Ljava/util/Optional;", false);
+        mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(CauseFilterIndex.class), "last",
+                "(" + Type.getDescriptor(Cause.class) + "Ljava/lang/Class;)Ljava/lang/Object;", false);
     }
 
     @Override
@@ -64,13 +65,8 @@ protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targe
         Label failure = new Label();
         Label success = new Label();
 
-        mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/Optional", "isPresent", "()Z", false);
-        mv.visitJumpInsn(IFEQ, failure);
+        mv.visitJumpInsn(IFNULL, failure);
 
-        mv.visitVarInsn(ALOAD, local);
-        mv.visitMethodInsn(INVOKEVIRTUAL, "java/util/Optional", "get", "()Ljava/lang/Object;", false);
-
-        mv.visitVarInsn(ASTORE, local);
         mv.visitVarInsn(ALOAD, local);
 
         mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(targetType));
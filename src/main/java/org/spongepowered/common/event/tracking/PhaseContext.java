@@ -43,6 +43,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.event.tracking.context.BlockItemDropsSupplier;
 import org.spongepowered.common.event.tracking.context.BlockItemEntityDropsSupplier;
 import org.spongepowered.common.event.tracking.context.CaptureBlockPos;
@@ -128,6 +129,8 @@ public static PhaseContext<?> empty() {
     private boolean allowsBulkBlockCaptures = true; // Defaults to allow block captures
     private boolean allowsBulkEntityCaptures = true;
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
+    // The pool this context is returned to when closed, if any
+    @Nullable PhaseContextPool<?> pool;
 
     @Nullable private Object source;
 
@@ -613,6 +616,7 @@ public void close() { // Should never throw an exception
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
             }
+            this.releaseToPool();
             return;
         }
         if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
@@ -626,6 +630,43 @@ public void close() { // Should never throw an exception
             this.usedFrame.clear();
             this.usedFrame = null;
         }
+        this.releaseToPool();
+    }
+
+    private void releaseToPool() {
+        // Only recycle if nothing is left behind in the captures, otherwise we'd
+        // be handing out stale transactions to the next tick.
+        if (this.pool != null && SpongeImplHooks.isMainThread() && !this.notAllCapturesProcessed()) {
+            this.pool.release(this);
+        }
+    }
+
+    /**
+     * Resets this context back to the state it was in right after being
+     * created by its {@link IPhaseState}, retaining the capture suppliers
+     * so they can be reused. Subclasses holding their own state need to
+     * override this and clear their fields as well.
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.stackTrace = null;
+        this.source = null;
+        this.owner = null;
+        this.notifier = null;
+        this.allowsBlockEvents = true;
+        this.allowsEntityEvents = true;
+        this.allowsBulkBlockCaptures = true;
+        this.allowsBulkEntityCaptures = true;
+        this.usedFrame = null;
+        this.neighborNotificationSource = null;
+        this.singleSnapshot = null;
+        if (this.blocksSupplier != null) {
+            this.blocksSupplier.clear();
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((ServerWorldBridge) null);
+        }
     }
 
 
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * A small free list of {@link PhaseContext}s for the high frequency
+ * {@link IPhaseState}s (block, entity and tile entity ticks, neighbor
+ * notifications), which otherwise allocate a new context, along with
+ * all of its capture suppliers, for every single tick of every single
+ * object in every world.
+ *
+ * <p>Contexts are only ever acquired and released on the main thread,
+ * and a context is only returned to its pool from {@link PhaseContext#close()}
+ * once all of its captures have been processed. Any context that cannot
+ * be safely recycled is simply left for the garbage collector.</p>
+ *
+ * @param <C> The type of phase context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    private static final int MAX_POOLED_CONTEXTS = 16;
+
+    private final Deque<C> pooled = new ArrayDeque<>(MAX_POOLED_CONTEXTS);
+    private final Supplier<C> factory;
+
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = checkNotNull(factory, "Factory cannot be null!");
+    }
+
+    /**
+     * Gets a fresh {@link PhaseContext}, either from this pool or newly
+     * created by the factory if the pool is empty or pooling is disabled.
+     *
+     * @return The phase context, ready to be populated and switched to
+     */
+    public C acquire() {
+        if (!SpongeImplHooks.isMainThread() || !SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().poolPhaseContexts()) {
+            return this.factory.get();
+        }
+        final C pooledContext = this.pooled.poll();
+        if (pooledContext != null) {
+            return pooledContext;
+        }
+        final C context = this.factory.get();
+        context.pool = this;
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(PhaseContext<?> context) {
+        if (!context.isCompleted || this.pooled.size() >= MAX_POOLED_CONTEXTS) {
+            return;
+        }
+        for (C pooledContext : this.pooled) {
+            if (pooledContext == context) {
+                return;
+            }
+        }
+        context.reset();
+        this.pooled.push((C) context);
+    }
+
+    public int size() {
+        return this.pooled.size();
+    }
+}
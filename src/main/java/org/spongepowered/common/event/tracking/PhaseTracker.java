@@ -217,6 +217,7 @@ public static PhaseTracker getInstance() {
     private boolean hasPrintedAboutRunnawayPhases = false;
     private boolean hasPrintedAsyncEntities = false;
     private int printRunawayCount = 0;
+    private long deduplicatedNeighborNotifications = 0;
     private final List<IPhaseState<?>> printedExceptionsForBlocks = new ArrayList<>();
     private final List<IPhaseState<?>> printedExceptionsForEntities = new ArrayList<>();
     private final List<Tuple<IPhaseState<?>, IPhaseState<?>>> completedIncorrectStates = new ArrayList<>();
@@ -664,6 +665,16 @@ public PhaseContext<?> getCurrentContext() {
         return this.stack.peekContext();
     }
 
+    /**
+     * Gets the number of captured neighbor notifications that have been dropped
+     * as duplicates since the server started.
+     *
+     * @return The number of deduplicated neighbor notifications
+     */
+    public long getDeduplicatedNeighborNotifications() {
+        return this.deduplicatedNeighborNotifications;
+    }
+
     // --------------------- DELEGATED WORLD METHODS -------------------------
 
     /**
@@ -700,7 +711,9 @@ public void notifyBlockOfStateChange(final ServerWorldBridge mixinWorld, final I
             // it needs to be able to do so. It will replay the notifications in the order in which they were received,
             // such that the notification will be sent out in the same order as the block changes that may have taken place.
             if ((ShouldFire.CHANGE_BLOCK_EVENT || ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) && state.doesCaptureNeighborNotifications(peek)) {
-                peek.getCapturedBlockSupplier().captureNeighborNotification(mixinWorld, notifyState, notifyPos, sourceBlock, sourcePos);
+                if (!peek.getCapturedBlockSupplier().captureNeighborNotification(mixinWorld, notifyState, notifyPos, sourceBlock, sourcePos)) {
+                    this.deduplicatedNeighborNotifications++;
+                }
                 return;
             }
             state.associateNeighborStateNotifier(peek, sourcePos, notifyState.getBlock(), notifyPos, ((WorldServer) mixinWorld), PlayerTracker.Type.NOTIFIER);
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.event.tracking.context;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
@@ -32,6 +33,10 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -41,9 +46,11 @@
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
@@ -59,14 +66,12 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -80,7 +85,7 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
+    @Nullable private LongSet usedBlocks; // Packed positions, see BlockPos#toLong
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
@@ -92,6 +97,11 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
     // block state.
     @Nullable private BlockTransaction tail;
     @Nullable private BlockTransaction head;
+    // Targets already notified by each source position (packed, see BlockPos#toLong) since the last captured
+    // block or tile entity change. Only populated when neighbor notification deduplication is enabled.
+    @Nullable private Long2ObjectMap<NotifiedNeighbors> notifiedNeighbors;
+    // Read from the config on the first captured notification of the phase
+    private Tristate deduplicateNotifications = Tristate.UNDEFINED;
 
     public MultiBlockCaptureSupplier() {
     }
@@ -120,14 +130,14 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
         if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
             // At this point, we know we have not captured anything and
             // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
+            this.usedBlocks = new LongOpenHashSet();
 
-            this.usedBlocks.add(blockPos);
+            this.usedBlocks.add(blockPos.toLong());
             this.addSnapshot(backingSnapshot);
             return true;
         }
         // This isn't our first rodeo...
-        final boolean added = this.usedBlocks.add(blockPos); // add it to the set of positions already used and use the boolean
+        final boolean added = this.usedBlocks.add(blockPos.toLong()); // add it to the set of positions already used and use the boolean
         if (this.multimap != null) {
             // Means we've already got multiple changes per position once before.
             // Likewise, the used blocks, snapshots and multimap will NOT be null.
@@ -264,7 +274,7 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
             // also means we didn't capture.... wtf is going on at this point?
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
-        this.usedBlocks.remove(blockPos);
+        this.usedBlocks.remove(blockPos.toLong());
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
@@ -287,7 +297,7 @@ private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final Blo
                     if (next.equals(backingSnapshot)) {
                         firsts.remove();
                         // And if it's been found, remove the position from the used blocks as well.
-                        this.usedBlocks.remove(blockPos);
+                        this.usedBlocks.remove(blockPos.toLong());
                         break;
                     }
                 }
@@ -365,7 +375,12 @@ public final void acceptAndClearIfNotEmpty(BiConsumer<List<? extends BlockSnapsh
     This is achieved through captureNeighborNotification and logTileChange.
      */
 
-    private void logTransaction(BlockTransaction transaction) {
+    @VisibleForTesting
+    void logTransaction(BlockTransaction transaction) {
+        if (!(transaction instanceof BlockTransaction.NeighborNotification)) {
+            // The world may look different to any notification from here on, so they all count again
+            resetNotifiedNeighbors();
+        }
         if (this.tail != null) {
             this.tail.next = transaction;
         } else {
@@ -400,13 +415,57 @@ private void pruneTransaction(SpongeBlockSnapshot snapshot) {
 
     }
 
-    public void captureNeighborNotification(ServerWorldBridge mixinWorldServer, IBlockState notifyState, BlockPos notifyPos, Block sourceBlock, BlockPos sourcePos) {
+    /**
+     * Captures a neighbor notification to be replayed in order with the other captured transactions.
+     *
+     * @return False if the notification was dropped as a duplicate of an already captured notification
+     */
+    public boolean captureNeighborNotification(ServerWorldBridge mixinWorldServer, IBlockState notifyState, BlockPos notifyPos, Block sourceBlock, BlockPos sourcePos) {
+        if (this.deduplicateNotifications == Tristate.UNDEFINED) {
+            this.deduplicateNotifications = Tristate.fromBoolean(
+                SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().deduplicateNeighborNotifications());
+        }
+        if (this.deduplicateNotifications.asBoolean() && isDuplicateNotification(notifyPos, sourceBlock, sourcePos)) {
+            return false;
+        }
         final int transactionIndex = ++this.transactionIndex;
         final IBlockState actualSourceState = ((WorldServer) mixinWorldServer).getBlockState(sourcePos);
         final BlockTransaction.NeighborNotification notification = new BlockTransaction.NeighborNotification(transactionIndex, this.snapshotIndex, mixinWorldServer,
             notifyState, notifyPos, sourceBlock, sourcePos, actualSourceState);
         notification.enqueueChanges(mixinWorldServer.bridge$getProxyAccess(), this);
         logTransaction(notification);
+        return true;
+    }
+
+    private boolean isDuplicateNotification(BlockPos notifyPos, Block sourceBlock, BlockPos sourcePos) {
+        if (this.notifiedNeighbors == null) {
+            this.notifiedNeighbors = new Long2ObjectOpenHashMap<>();
+        }
+        final long sourceKey = sourcePos.toLong();
+        NotifiedNeighbors notified = this.notifiedNeighbors.get(sourceKey);
+        if (notified == null) {
+            notified = new NotifiedNeighbors(sourceBlock);
+            this.notifiedNeighbors.put(sourceKey, notified);
+        } else if (notified.sourceBlock != sourceBlock) {
+            return false;
+        }
+        return !notified.targets.add(notifyPos.toLong());
+    }
+
+    private void resetNotifiedNeighbors() {
+        if (this.notifiedNeighbors != null) {
+            this.notifiedNeighbors.clear();
+        }
+    }
+
+    private static final class NotifiedNeighbors {
+
+        final Block sourceBlock;
+        final LongSet targets = new LongOpenHashSet(8);
+
+        NotifiedNeighbors(Block sourceBlock) {
+            this.sourceBlock = sourceBlock;
+        }
     }
 
     /**
@@ -557,6 +616,8 @@ public void clear() {
         if (this.scheduledEvents != null) {
             this.scheduledEvents.clear();
         }
+        resetNotifiedNeighbors();
+        this.deduplicateNotifications = Tristate.UNDEFINED;
         this.snapshotIndex = -1;
         this.transactionIndex = -1;
     }
@@ -613,7 +674,7 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(SpongeBlockSnapsho
     }
 
     public boolean trackEvent(BlockPos pos, BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.usedBlocks != null && this.usedBlocks.contains(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -672,6 +733,8 @@ public boolean processTransactions(List<Transaction<BlockSnapshot>> transactions
             final BlockTransaction head = this.head;
             this.head = null;
             this.tail = null;
+            // Processing changes the world, notifications captured from here on are new again
+            resetNotifiedNeighbors();
             for (BlockTransaction transaction = head; transaction != null; ) {
 
                 if (transaction.snapshotIndex > targetIndex) {
@@ -766,6 +829,7 @@ public boolean processTransactions(List<Transaction<BlockSnapshot>> transactions
             }
             this.head = null;
             this.tail = null;
+            resetNotifiedNeighbors();
         }
         return noCancelledTransactions;
     }
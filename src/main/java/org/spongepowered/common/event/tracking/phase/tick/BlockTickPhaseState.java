@@ -49,6 +49,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.util.VecHelper;
@@ -66,6 +67,8 @@ class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext>
                 context.tickingBlock.getTickFrameModifier().accept(frame, (ServerWorldBridge) context.world);
             }
         );
+    private final PhaseContextPool<BlockTickContext> contextPool =
+        new PhaseContextPool<>(() -> new BlockTickContext(this).addCaptures());
     private final String desc;
 
     BlockTickPhaseState(String name) {
@@ -79,8 +82,7 @@ public BiConsumer<CauseStackManager.StackFrame, BlockTickContext> getFrameModifi
 
     @Override
     public BlockTickContext createPhaseContext() {
-        return new BlockTickContext(this)
-                .addCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -50,6 +50,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 
@@ -65,15 +66,18 @@ class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTic
                 .ifPresent(frame::pushCause)
         );
 
+    private final PhaseContextPool<TileEntityTickContext> contextPool =
+        new PhaseContextPool<>(() -> new TileEntityTickContext(this)
+            .addEntityCaptures()
+            .addEntityDropCaptures()
+            .addBlockCaptures());
+
     TileEntityTickPhaseState() {
     }
 
     @Override
     public TileEntityTickContext createPhaseContext() {
-        return new TileEntityTickContext(this)
-                .addEntityCaptures()
-                .addEntityDropCaptures()
-                .addBlockCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -51,7 +51,11 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public abstract class AbstractLens implements Lens {
 
@@ -70,6 +74,8 @@ public abstract class AbstractLens implements Lens {
     protected int size;
     
     private int maxOrdinal = 0;
+
+    @Nullable private volatile Map<List<Object>, Lens[]> structuralQueryCache;
     
     public AbstractLens(int base, int size, InventoryAdapter adapter, SlotProvider slots) {
         this(base, size, adapter.getClass(), slots);
@@ -87,6 +93,22 @@ public AbstractLens(int base, int size, Class<? extends Inventory> adapterType,
         this.prepare();
     }
 
+    /**
+     * Gets the cache of query results for queries which only depend on the
+     * structure of this lens tree, see
+     * {@link org.spongepowered.common.item.inventory.query.Query}.
+     *
+     * @return The structural query cache
+     */
+    public Map<List<Object>, Lens[]> getStructuralQueryCache() {
+        Map<List<Object>, Lens[]> cache = this.structuralQueryCache;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            this.structuralQueryCache = cache;
+        }
+        return cache;
+    }
+
     protected void prepare() {
         this.children = new MutableLensCollectionImpl(0, false);
         this.spanningChildren = new ArrayList<>();
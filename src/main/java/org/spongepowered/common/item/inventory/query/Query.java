@@ -33,12 +33,18 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensSet;
+import org.spongepowered.common.item.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
 import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.inventory.query.result.MinecraftResultAdapterProvider;
 import org.spongepowered.common.item.inventory.query.result.QueryResult;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 public class Query {
 
@@ -50,6 +56,9 @@ public interface ResultAdapterProvider {
 
     private static ResultAdapterProvider defaultResultProvider = new MinecraftResultAdapterProvider();
 
+    // Bounds the number of distinct structural queries cached per root lens
+    private static final int MAX_CACHED_STRUCTURAL_QUERIES = 64;
+
     private final InventoryAdapter adapter;
 
     private final Fabric inventory;
@@ -71,6 +80,14 @@ public Inventory execute() {
     }
 
     public Inventory execute(ResultAdapterProvider resultProvider) {
+        if (this.lens instanceof AbstractLens) {
+            // Lens trees don't change once built, so queries not depending on the contents
+            // of the inventory only need to walk the tree once per root lens
+            final List<Object> structuralKey = this.getStructuralKey();
+            if (structuralKey != null) {
+                return this.toResult(resultProvider, this.getStructuralMatches((AbstractLens) this.lens, structuralKey));
+            }
+        }
         if (this.matches(this.lens, null, this.inventory)) {
             return this.lens.getAdapter(this.inventory, this.adapter);
         }
@@ -78,6 +95,44 @@ public Inventory execute(ResultAdapterProvider resultProvider) {
         return this.toResult(resultProvider, this.reduce(this.lens, this.depthFirstSearch(this.lens)));
     }
 
+    @Nullable
+    @SuppressWarnings("rawtypes")
+    private List<Object> getStructuralKey() {
+        final List<Object> key = new ArrayList<>(this.queries.length);
+        for (QueryOperation<?> operation : this.queries) {
+            final Object operationKey = ((SpongeQueryOperation) operation).getStructuralKey();
+            if (operationKey == null) {
+                return null;
+            }
+            key.add(operationKey);
+        }
+        return key;
+    }
+
+    private MutableLensSet getStructuralMatches(AbstractLens root, List<Object> structuralKey) {
+        final Map<List<Object>, Lens[]> cache = root.getStructuralQueryCache();
+        Lens[] cached = cache.get(structuralKey);
+        if (cached == null) {
+            final MutableLensSet matches;
+            if (this.matches(root, null, this.inventory)) {
+                matches = new MutableLensSetImpl(true);
+                matches.add(root);
+            } else {
+                matches = this.reduce(root, this.depthFirstSearch(root));
+            }
+            cached = matches.toArray(new Lens[0]);
+            if (cache.size() < MAX_CACHED_STRUCTURAL_QUERIES) {
+                cache.put(structuralKey, cached);
+            }
+            return matches;
+        }
+        final MutableLensSet matches = new MutableLensSetImpl(true);
+        for (Lens match : cached) {
+            matches.add(match);
+        }
+        return matches;
+    }
+
     @SuppressWarnings("unchecked")
     private Inventory toResult(ResultAdapterProvider resultProvider, MutableLensSet matches) {
         if (matches.isEmpty()) {
@@ -29,6 +29,8 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 
+import javax.annotation.Nullable;
+
 public abstract class SpongeQueryOperation<T> implements QueryOperation<T> {
 
     protected final QueryOperationType<T> type;
@@ -45,4 +47,17 @@ public final QueryOperationType<T> getType() {
     public abstract boolean matches(Lens lens, Lens parent,
             Fabric inventory);
 
+    /**
+     * Gets a key identifying what this operation matches, if the result
+     * depends only on the structure of the lens tree and not on the contents
+     * of the inventory. Queries made up solely of such operations have their
+     * results cached per root lens.
+     *
+     * @return The structural key, or null if this operation is not structural
+     */
+    @Nullable
+    public Object getStructuralKey() {
+        return null;
+    }
+
 }
@@ -44,4 +44,10 @@ public boolean matches(Lens lens, Lens parent, Fabric inventory) {
         return this.targetType.isAssignableFrom(lens.getAdapterType());
     }
 
+    @Override
+    public Object getStructuralKey() {
+        // Both type operations match the adapter type in the same way
+        return this.targetType;
+    }
+
 }
@@ -126,6 +126,7 @@
 import org.spongepowered.common.interfaces.text.IMixinTitle;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.ChatUtil;
 import org.spongepowered.common.util.BookFaker;
 import org.spongepowered.common.util.LocaleCache;
 import org.spongepowered.common.util.NetworkUtil;
@@ -589,7 +590,7 @@ public MessageChannelEvent.Chat simulateChat(final Text message, final Cause cau
                 new MessageEvent.MessageFormatter(messages[0], messages[1]), message, false
         );
         if (!SpongeImpl.postEvent(event) && !event.isMessageCancelled()) {
-            event.getChannel().ifPresent(channel -> channel.send(this, event.getMessage(), ChatTypes.CHAT));
+            event.getChannel().ifPresent(channel -> ChatUtil.send(channel, this, event.getMessage(), ChatTypes.CHAT));
         }
         return event;
     }
@@ -122,6 +122,7 @@ public abstract class MixinEntity implements EntityBridge, TrackableBridge, Vani
     @Nullable private BlockState currentCollidingBlock;
     @Nullable private BlockPos lastCollidedBlockPos;
     private boolean trackedInWorld = false;
+    private int creatureTypeMask = 0;
     private boolean vanish$collision = false;
     private boolean vanish$untargetable = false;
     private boolean vanish$isVanished = false;
@@ -238,6 +239,16 @@ private void onSpongeConstruction(final net.minecraft.world.World worldIn, final
         this.trackedInWorld = tracked;
     }
 
+    @Override
+    public int bridge$getCreatureTypeMask() {
+        return this.creatureTypeMask;
+    }
+
+    @Override
+    public void bridge$setCreatureTypeMask(final int mask) {
+        this.creatureTypeMask = mask;
+    }
+
     @Inject(method = "startRiding(Lnet/minecraft/entity/Entity;Z)Z", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/Entity;ridingEntity:Lnet/minecraft/entity/Entity;", ordinal = 0),
             cancellable = true)
     private void onStartRiding(final Entity vehicle, final boolean force, final CallbackInfoReturnable<Boolean> ci) {
@@ -61,6 +61,8 @@
 import org.spongepowered.common.bridge.entity.ai.EntityGoalBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAITasks;
@@ -137,6 +139,18 @@ private void callLeashEvent(final EntityPlayer playerIn, final EnumHand hand, fi
         }
     }
 
+    /**
+     * Persistent entities no longer count towards the spawn limits, so the
+     * chunk counters need to be updated when persistence is enabled.
+     */
+    @Inject(method = {"enablePersistence", "updateEquipmentIfNeeded", "readEntityFromNBT"}, at = @At("RETURN"))
+    private void impl$UpdateCreatureCountsOnPersistenceChange(final CallbackInfo ci) {
+        final ChunkBridge chunk = ((ActiveChunkReferantBridge) this).bridge$getActiveChunk();
+        if (chunk != null && !this.world.isRemote) {
+            chunk.updateCreatureCounts((EntityLiving) (Object) this);
+        }
+    }
+
     @Inject(method = "clearLeashed",
         at = @At(value = "FIELD", target = "Lnet/minecraft/entity/EntityLiving;isLeashed:Z", opcode = Opcodes.PUTFIELD),
         cancellable = true)
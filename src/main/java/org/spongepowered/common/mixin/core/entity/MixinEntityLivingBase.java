@@ -87,6 +87,7 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.living.human.EntityHuman;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.damage.DamageEventHandler;
 import org.spongepowered.common.event.damage.DamageObject;
@@ -890,6 +891,9 @@ private void onGetItemStackFromSlot(final CallbackInfo ci, final int i_unused, f
         if (this.ticksExisted == 1 && (EntityLivingBase) (Object) this instanceof EntityPlayer) {
             return; // Ignore Equipment on player spawn/respawn
         }
+        if (!ShouldFire.CHANGE_ENTITY_EQUIPMENT_EVENT) {
+            return;
+        }
         final ItemStack after = this.getItemStackFromSlot(entityEquipmentSlot);
         final EntityLivingBase entity = (EntityLivingBase) (BaseLivingEntityBridge) this;
         if (!ItemStack.areItemStacksEqual(after, before)) {
@@ -1021,6 +1025,12 @@ private int onGetRemainingItemDuration(final EntityLivingBase self) {
             return self.getItemInUseCount();
         }
 
+        if (!ShouldFire.USE_ITEM_STACK_EVENT_TICK) {
+            this.activeItemStackUseCount = Math.max(this.activeItemStackUseCount, 1);
+            SpongeImplHooks.onUseItemTick((EntityLivingBase) (Object) this, this.activeItemStack, this.activeItemStackUseCount);
+            return getItemInUseCount();
+        }
+
         final UseItemStackEvent.Tick event;
         try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(this.activeItemStack);
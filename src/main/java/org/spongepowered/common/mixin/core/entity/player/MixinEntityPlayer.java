@@ -360,7 +360,7 @@ public void onDeath(final DamageSource cause) {
     @Redirect(method = "onUpdate", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/EntityPlayer;isPlayerSleeping()Z"))
     private boolean onSpongeIsPlayerSleeping(final EntityPlayer self) {
         if (self.isPlayerSleeping()) {
-            if (!((WorldBridge) this.world).isFake()) {
+            if (ShouldFire.SLEEPING_EVENT_TICK && !((WorldBridge) this.world).isFake()) {
                 final CauseStackManager csm = Sponge.getCauseStackManager();
                 csm.pushCause(this);
                 final BlockPos bedLocation = this.bedLocation;
@@ -110,6 +110,7 @@
 import org.spongepowered.api.resourcepack.ResourcePack;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Final;
@@ -143,6 +144,7 @@
 import org.spongepowered.common.bridge.server.management.PlayerInteractionManagerBridge;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.ChatUtil;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
 
@@ -609,7 +611,7 @@ public void onDisconnectHandler(PlayerList this$0, ITextComponent component) {
         SpongeImpl.postEvent(event);
         Sponge.getCauseStackManager().popCause();
         if (!event.isMessageCancelled()) {
-            event.getChannel().ifPresent(channel -> channel.send(player, event.getMessage()));
+            event.getChannel().ifPresent(channel -> ChatUtil.send(channel, player, event.getMessage(), ChatTypes.SYSTEM));
         }
         ((ServerPlayerEntityBridge) this.player).getWorldBorderListener().onPlayerDisconnect();
     }
@@ -24,17 +24,32 @@
  */
 package org.spongepowered.common.mixin.core.network.play.server;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.BlockStateContainer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.interfaces.IMixinBlockStateContainer;
+import org.spongepowered.common.network.CachedChunkPacketData;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 @Mixin(SPacketChunkData.class)
 public abstract class MixinSPacketChunkData {
@@ -43,10 +58,14 @@ public abstract class MixinSPacketChunkData {
     @Shadow private int chunkZ;
     @Shadow private boolean fullChunk;
     @Shadow private byte[] buffer;
+    @Shadow private int availableSections;
+    @Shadow private List<NBTTagCompound> tileEntityTags;
 
     @Shadow protected abstract int calculateChunkSize(Chunk chunkIn, boolean p_189556_2_, int p_189556_3_);
 
     private int calculatedSize;
+    private boolean canCacheData;
+    @Nullable private CachedChunkPacketData cachedData;
 
     @Redirect(
         method = "<init>(Lnet/minecraft/world/chunk/Chunk;I)V",
@@ -56,6 +75,24 @@ public abstract class MixinSPacketChunkData {
         )
     )
     private int spongeImpl$getCalculatedSizeForArray(SPacketChunkData sPacketChunkData, Chunk chunkIn, boolean p_189556_2_, int p_189556_3_) {
+        // Sponge Start - Only full chunk packets are shared, since those are the ones sent to every new watcher.
+        // With async lighting, a chunk with pending light updates may be written to off-thread while we encode it.
+        final OptimizationCategory optimizations = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations();
+        this.canCacheData = this.fullChunk && !chunkIn.getWorld().isRemote && optimizations.useChunkPacketCache()
+                && (!optimizations.useAsyncLighting() || ((ChunkBridge) chunkIn).getPendingLightUpdates().get() == 0);
+        if (this.canCacheData) {
+            final CachedChunkPacketData cached = ((ChunkBridge) chunkIn).getCachedChunkPacketData();
+            if (cached != null) {
+                if (cached.isValidFor(chunkIn.getWorld().getTotalWorldTime())) {
+                    this.cachedData = cached;
+                    // The buffer is swapped for the shared one once construction completes
+                    return 0;
+                }
+                // Stale, drop it now so the buffer isn't retained until the next full chunk packet
+                ((ChunkBridge) chunkIn).setCachedChunkPacketData(null);
+            }
+        }
+        // Sponge End
         this.calculatedSize = this.calculateChunkSize(chunkIn, p_189556_2_, p_189556_3_);
         return this.calculatedSize;
     }
@@ -68,6 +105,9 @@ public abstract class MixinSPacketChunkData {
         )
     )
     private int spongeImpl$surroundExtractingChunkDataWithExceptionPrinter(SPacketChunkData this$0, PacketBuffer buf, Chunk chunkIn, boolean writeSkylight, int changedSectionFilter) {
+        if (this.cachedData != null) {
+            return this.cachedData.getAvailableSections();
+        }
         try {
             return this$0.extractChunkData(buf, chunkIn, writeSkylight, changedSectionFilter);
         } catch (Exception e) {
@@ -76,6 +116,34 @@ public abstract class MixinSPacketChunkData {
         }
     }
 
+    @Redirect(
+        method = "<init>(Lnet/minecraft/world/chunk/Chunk;I)V",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/chunk/Chunk;getTileEntityMap()Ljava/util/Map;"
+        )
+    )
+    private Map<BlockPos, TileEntity> spongeImpl$skipTileEntityTagsIfCached(Chunk chunkIn) {
+        if (this.cachedData != null) {
+            return Collections.emptyMap();
+        }
+        return chunkIn.getTileEntityMap();
+    }
+
+    @Inject(method = "<init>(Lnet/minecraft/world/chunk/Chunk;I)V", at = @At("RETURN"))
+    private void spongeImpl$shareCachedChunkData(Chunk chunkIn, int changedSectionFilter, CallbackInfo ci) {
+        if (this.cachedData != null) {
+            this.buffer = this.cachedData.getBuffer();
+            this.tileEntityTags = this.cachedData.getTileEntityTags();
+        } else if (this.canCacheData) {
+            final CachedChunkPacketData data = new CachedChunkPacketData(chunkIn.getWorld().getTotalWorldTime(), this.buffer,
+                this.availableSections, this.tileEntityTags);
+            this.tileEntityTags = data.getTileEntityTags();
+            ((ChunkBridge) chunkIn).setCachedChunkPacketData(data);
+        }
+        this.cachedData = null;
+    }
+
     private void spongeImpl$printVerbosity(Chunk chunkIn, boolean writeSkylight, int changedSectionFilter, Exception e) {
         final PrettyPrinter printer = new PrettyPrinter(60).add("Exception attempting to create a ChunkPacket").centre().hr()
             .addWrapped(70, "Sponge has been attempting to resolve an issue where a chunk "
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.server.management;
 
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketChunkData;
 import net.minecraft.server.management.PlayerChunkMap;
@@ -37,8 +38,13 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.util.Constants;
 
+import java.util.List;
+
+import javax.annotation.Nullable;
+
 @Mixin(PlayerChunkMapEntry.class)
 public abstract class MixinPlayerChunkMapEntry implements PlayerChunkMapEntryBridge {
 
@@ -46,6 +52,8 @@ public abstract class MixinPlayerChunkMapEntry implements PlayerChunkMapEntryBri
     @Shadow @Final public ChunkPos pos;
     @Shadow public int changes;
     @Shadow public int changedSectionFilter;
+    @Shadow @Final private List<EntityPlayerMP> players;
+    @Shadow @Nullable private Chunk chunk;
     @Shadow public abstract void sendPacket(Packet<?> packetIn);
 
     private boolean updateBiomes;
@@ -62,6 +70,13 @@ public abstract class MixinPlayerChunkMapEntry implements PlayerChunkMapEntryBri
         }
     }
 
+    @Inject(method = "removePlayer", at = @At("RETURN"))
+    private void impl$dropCachedChunkPacketWhenUnwatched(EntityPlayerMP player, CallbackInfo ci) {
+        if (this.players.isEmpty() && this.chunk != null) {
+            ((ChunkBridge) this.chunk).setCachedChunkPacketData(null);
+        }
+    }
+
     @Override
     public void bridge$markBiomesForUpdate() {
         this.updateBiomes = true;
@@ -50,6 +50,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.interfaces.data.IMixinCustomNameable;
 import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.FuelSlotAdapter;
@@ -139,6 +140,10 @@ private boolean onCanSmeltTickUp(TileEntityFurnace furnace) {
             return false;
         }
 
+        if (this.cookTime != 0 && !ShouldFire.SMELT_EVENT_TICK) {
+            return true;
+        }
+
         ItemStackSnapshot fuel = ItemStackUtil.snapshotOf(this.furnaceItemStacks.get(1));
 
         Cause cause = Sponge.getCauseStackManager().getCurrentCause();
@@ -158,6 +163,9 @@ private boolean onCanSmeltTickUp(TileEntityFurnace furnace) {
     @Redirect(method = "update", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/MathHelper;clamp(III)I"))
     private int onClampTickDown(int newCookTime, int zero, int totalCookTime) {
         int clampedCookTime = MathHelper.clamp(newCookTime, zero, totalCookTime);
+        if (!ShouldFire.SMELT_EVENT_TICK) {
+            return clampedCookTime;
+        }
         ItemStackSnapshot fuel = ItemStackUtil.snapshotOf(this.furnaceItemStacks.get(1));
         Cause cause = Sponge.getCauseStackManager().getCurrentCause();
         SmeltEvent.Tick event = SpongeEventFactory.createSmeltEventTick(cause, fuel, (Furnace) this, Collections.emptyList());
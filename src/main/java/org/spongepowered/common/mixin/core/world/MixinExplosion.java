@@ -26,7 +26,9 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -71,10 +73,10 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -121,7 +123,12 @@ public void doExplosionA() {
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it
         if (this.shouldBreakBlocks) {
             // Sponge End
-            final Set<BlockPos> set = Sets.<BlockPos>newHashSet();
+            // Sponge Start - Collect packed positions and walk the rays with a single mutable position.
+            // Consecutive steps of a ray usually stay within the same block, so the state and its
+            // resistance are only looked up again once the ray enters a new block.
+            final LongSet set = new LongOpenHashSet();
+            final BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
+            // Sponge End
             final int i = 16;
 
             for (int j = 0; j < 16; ++j) {
@@ -139,22 +146,43 @@ public void doExplosionA() {
                             double d4 = this.x;
                             double d6 = this.y;
                             double d8 = this.z;
+                            // Sponge Start - track the block the ray is currently in
+                            int blockX = 0;
+                            int blockY = 0;
+                            int blockZ = 0;
+                            boolean first = true;
+                            IBlockState iblockstate = null;
+                            float f2 = 0.0F;
+                            // Sponge End
 
                             for (final float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                final BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                final IBlockState iblockstate = this.world.getBlockState(blockpos);
-
-                                if (iblockstate.getMaterial() != Material.AIR) {
-                                    final float f2 = this.exploder != null
+                                // Sponge Start - Only look up a block the ray just entered
+                                final int nextX = MathHelper.floor(d4);
+                                final int nextY = MathHelper.floor(d6);
+                                final int nextZ = MathHelper.floor(d8);
+                                if (first || nextX != blockX || nextY != blockY || nextZ != blockZ) {
+                                    first = false;
+                                    blockX = nextX;
+                                    blockY = nextY;
+                                    blockZ = nextZ;
+                                    blockpos.setPos(nextX, nextY, nextZ);
+                                    iblockstate = this.world.getBlockState(blockpos);
+                                    if (iblockstate.getMaterial() != Material.AIR) {
+                                        f2 = this.exploder != null
                                                ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
                                             , this.world, blockpos, iblockstate)
                                                : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                    }
+                                }
+
+                                if (iblockstate.getMaterial() != Material.AIR) {
                                     f -= (f2 + 0.3F) * 0.3F;
                                 }
+                                // Sponge End
 
                                 if (f > 0.0F && (this.exploder == null || this.exploder
                                         .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
-                                    set.add(blockpos);
+                                    set.add(blockpos.toLong()); // Sponge - packed position
                                 }
 
                                 d4 += d0 * 0.30000001192092896D;
@@ -166,7 +194,11 @@ public void doExplosionA() {
                 }
             }
 
-            this.affectedBlockPositions.addAll(set);
+            // Sponge Start - Only allocate positions for the blocks that are actually affected
+            for (final LongIterator iterator = set.iterator(); iterator.hasNext(); ) {
+                this.affectedBlockPositions.add(BlockPos.fromLong(iterator.nextLong()));
+            }
+            // Sponge End
         } // Sponge - Finish if statement
         final float f3 = this.size * 2.0F;
         final int k1 = MathHelper.floor(this.x - (double) f3 - 1.0D);
@@ -222,6 +254,8 @@ public void doExplosionA() {
         // Sponge End
 
         final Vec3d vec3d = new Vec3d(this.x, this.y, this.z);
+        // Sponge - Entities crammed into the same spot (mob farms) share their exposure
+        final Map<AxisAlignedBB, Float> exposureCache = new HashMap<>();
 
         for (int k2 = 0; k2 < list.size(); ++k2) {
             final Entity entity = list.get(k2);
@@ -239,7 +273,15 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        final double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge Start - Cache the exposure per bounding box
+                        final AxisAlignedBB boundingBox = entity.getEntityBoundingBox();
+                        Float exposure = exposureCache.get(boundingBox);
+                        if (exposure == null) {
+                            exposure = this.world.getBlockDensity(vec3d, boundingBox);
+                            exposureCache.put(boundingBox, exposure);
+                        }
+                        final double d14 = (double) exposure;
+                        // Sponge End
                         final double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
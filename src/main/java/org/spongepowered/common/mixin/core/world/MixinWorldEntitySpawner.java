@@ -25,6 +25,8 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
@@ -80,6 +82,9 @@ public abstract class MixinWorldEntitySpawner {
     @Nullable
     private static EntityType spawnerEntityType;
     private final List<Chunk> eligibleSpawnChunks = new ArrayList<>();
+    private final LongSet eligibleChunkKeys = new LongOpenHashSet();
+    private final LongSet candidateChunkKeys = new LongOpenHashSet();
+    private final LongSet playerLimitedChunkKeys = new LongOpenHashSet();
 
     /**
      * @author blood - February 18th, 2017
@@ -100,17 +105,13 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
         try (final PhaseContext<?> context = GenerationPhase.State.WORLD_SPAWNER_SPAWNING.createPhaseContext()
                 .world(world)) {
             context.buildAndSwitch();
-            Iterator<Chunk> chunkIterator = this.eligibleSpawnChunks.iterator();
-            while (chunkIterator.hasNext()) {
-                final Chunk chunk = chunkIterator.next();
-                ((ChunkBridge) chunk).setIsSpawning(false);
-                chunkIterator.remove();
-            }
+            this.eligibleSpawnChunks.clear();
+            this.eligibleChunkKeys.clear();
+            this.candidateChunkKeys.clear();
 
             final ServerWorldBridge spongeWorld = (ServerWorldBridge) world;
             spongeWorld.bridge$getTimingsHandler().mobSpawn.startTiming();
 
-            int chunkSpawnCandidates = 0;
             final int mobSpawnRange = Math.min(((WorldInfoBridge) world.getWorldInfo()).getConfigAdapter().getConfig().getWorld().getMobSpawnRange(),
                     ((org.spongepowered.api.world.World) world).getViewDistance());
             // Vanilla uses a div count of 289 (17x17) which assumes the view distance is 8.
@@ -130,29 +131,30 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
                 for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
                     for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
                         final boolean flag = i == -mobSpawnRange || i == mobSpawnRange || j == -mobSpawnRange || j == mobSpawnRange;
-                        final Chunk
-                            chunk =
-                            ((ChunkProviderBridge) world.getChunkProvider())
-                                .bridge$getLoadedChunkWithoutMarkingActive(i + playerPosX, j + playerPosZ);
-                        if (chunk == null || (chunk.unloadQueued && !((ChunkBridge) chunk).isPersistedChunk())) {
+                        final Chunk chunk = getSpawnableChunk(world, i + playerPosX, j + playerPosZ);
+                        if (chunk == null) {
                             // Don't attempt to spawn in an unloaded chunk
                             continue;
                         }
 
-                        final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-                        ++chunkSpawnCandidates;
-                        final ChunkPos chunkPos = chunk.getPos();
-                        if (!flag && world.getWorldBorder().contains(chunkPos)) {
-                            final PlayerChunkMapEntry playerchunkmapentry = world.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
-
-                            if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.isSpawning()) {
-                                this.eligibleSpawnChunks.add(chunk);
-                                spongeChunk.setIsSpawning(true);
+                        // Players sharing an area only count its chunks once, the same as vanilla
+                        final long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+                        this.candidateChunkKeys.add(chunkKey);
+                        if (!flag && !this.eligibleChunkKeys.contains(chunkKey)) {
+                            final ChunkPos chunkPos = chunk.getPos();
+                            if (world.getWorldBorder().contains(chunkPos)) {
+                                final PlayerChunkMapEntry playerchunkmapentry = world.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
+
+                                if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers()) {
+                                    this.eligibleSpawnChunks.add(chunk);
+                                    this.eligibleChunkKeys.add(chunkKey);
+                                }
                             }
                         }
                     }
                 }
             }
+            final int chunkSpawnCandidates = this.candidateChunkKeys.size();
 
             // If there are no eligible chunks, return early
             if (this.eligibleSpawnChunks.isEmpty()) {
@@ -163,6 +165,7 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
             int totalSpawned = 0;
             final long worldTotalTime = world.getTotalWorldTime();
             final SpongeConfig<WorldConfig> configAdapter = ((WorldInfoBridge) world.getWorldInfo()).getConfigAdapter();
+            final boolean perPlayerLimits = configAdapter.getConfig().getSpawner().usePerPlayerSpawnLimits();
 
             labelOuterLoop:
             for (final EnumCreatureType enumCreatureType : EnumCreatureType.values()) {
@@ -187,17 +190,26 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
                 }
 
                 if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                    final int entityCount = SpongeImplHooks.countEntities(world, enumCreatureType, true);
-                    final int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
-                    if (entityCount > maxCount) {
-                        continue labelOuterLoop;
+                    // Sponge - Use the counts kept by the chunks instead of walking every loaded entity
+                    int mobLimit;
+                    if (perPlayerLimits) {
+                        mobLimit = this.spongeImpl$collectPlayerLimitedChunks(world, enumCreatureType, limit, mobSpawnRange);
+                    } else {
+                        final int entityCount = spongeWorld.bridge$getCreatureCount(enumCreatureType);
+                        final int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
+                        if (entityCount > maxCount) {
+                            continue labelOuterLoop;
+                        }
+                        mobLimit = maxCount - entityCount + 1;
                     }
 
-                    chunkIterator = this.eligibleSpawnChunks.iterator();
-                    int mobLimit = maxCount - entityCount + 1;
+                    final Iterator<Chunk> chunkIterator = this.eligibleSpawnChunks.iterator();
                     labelChunkStart:
                     while (chunkIterator.hasNext() && mobLimit > 0) {
                         final Chunk chunk = chunkIterator.next();
+                        if (perPlayerLimits && !this.playerLimitedChunkKeys.contains(ChunkPos.asLong(chunk.x, chunk.z))) {
+                            continue;
+                        }
                         final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
                         final BlockPos blockpos = getRandomChunkPosition(world, chunk);
                         final int k1 = blockpos.getX();
@@ -302,6 +314,55 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
         }
     }
 
+    /**
+     * Collects the chunks around every player that still has room for the
+     * given creature type, counting only the creatures in that player's
+     * spawn range.
+     *
+     * @return The number of creatures that may be spawned in total
+     */
+    private int spongeImpl$collectPlayerLimitedChunks(final WorldServer world, final EnumCreatureType type, final int limit, final int range) {
+        this.playerLimitedChunkKeys.clear();
+        int mobLimit = 0;
+        for (final EntityPlayer entityplayer : world.playerEntities) {
+            if (!((PlayerEntityBridge) entityplayer).affectsSpawning() || entityplayer.isSpectator()) {
+                continue;
+            }
+
+            final int playerPosX = MathHelper.floor(entityplayer.posX / 16.0D);
+            final int playerPosZ = MathHelper.floor(entityplayer.posZ / 16.0D);
+            int count = 0;
+            for (int i = -range; i <= range; ++i) {
+                for (int j = -range; j <= range; ++j) {
+                    final Chunk chunk = getSpawnableChunk(world, i + playerPosX, j + playerPosZ);
+                    if (chunk != null) {
+                        count += ((ChunkBridge) chunk).getCreatureCount(type);
+                    }
+                }
+            }
+            if (count >= limit) {
+                continue;
+            }
+
+            mobLimit += limit - count;
+            for (int i = -range; i <= range; ++i) {
+                for (int j = -range; j <= range; ++j) {
+                    this.playerLimitedChunkKeys.add(ChunkPos.asLong(i + playerPosX, j + playerPosZ));
+                }
+            }
+        }
+        return mobLimit;
+    }
+
+    @Nullable
+    private static Chunk getSpawnableChunk(final WorldServer world, final int x, final int z) {
+        final Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(x, z);
+        if (chunk == null || (chunk.unloadQueued && !((ChunkBridge) chunk).isPersistedChunk())) {
+            return null;
+        }
+        return chunk;
+    }
+
     private static BlockPos getRandomChunkPosition(final World worldIn, final Chunk chunk)
     {
         final int i = chunk.x * 16 + worldIn.rand.nextInt(16);
@@ -35,6 +35,7 @@
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.passive.EntitySkeletonHorse;
@@ -211,6 +212,7 @@ public abstract class MixinWorldServer extends MixinWorld implements ServerWorld
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = Constants.World.CHUNK_GC_TICK_INTERVAL;
     private int chunkLoadCount = 0;
+    private final int[] creatureCounts = new int[EnumCreatureType.values().length];
     private long chunkUnloadDelay = Constants.World.CHUNK_UNLOAD_DELAY;
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
@@ -2456,6 +2458,16 @@ private void onTickUpdatesTickingEnd(final CallbackInfoReturnable<Boolean> cir)
         return this.timings;
     }
 
+    @Override
+    public int bridge$getCreatureCount(final EnumCreatureType type) {
+        return this.creatureCounts[type.ordinal()];
+    }
+
+    @Override
+    public void bridge$adjustCreatureCount(final EnumCreatureType type, final int delta) {
+        this.creatureCounts[type.ordinal()] += delta;
+    }
+
     @Inject(method = "updateWeather", at = @At(value = "FIELD", target = "Lnet/minecraft/world/WorldServer;prevRainingStrength:F"), cancellable = true)
     private void onAccessPreviousRain(final CallbackInfo ci) {
         final Weather weather = ((org.spongepowered.api.world.World) this).getWeather();
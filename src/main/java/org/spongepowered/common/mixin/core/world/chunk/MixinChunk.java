@@ -31,6 +31,7 @@
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ClassInheritanceMultiMap;
@@ -67,6 +68,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.bridge.entity.EntityBridge;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.util.CacheKeyed;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -83,6 +85,7 @@
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
+import org.spongepowered.common.network.CachedChunkPacketData;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
@@ -124,11 +127,15 @@ public abstract class MixinChunk implements ChunkBridge, CacheKeyed {
     @Shadow private void relightBlock(final int x, final int y, final int z) { }
     // @formatter:on
 
+    private static final EnumCreatureType[] CREATURE_TYPES = EnumCreatureType.values();
+
     private long scheduledForUnload = -1; // delay chunk unloads
     private boolean persistedChunk = false;
-    private boolean isSpawning = false;
+    private final int[] creatureCounts = new int[CREATURE_TYPES.length];
+    private boolean creatureCountsInWorld = false;
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long cacheKey;
+    @Nullable private volatile CachedChunkPacketData cachedChunkPacketData;
 
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
     private void impl$onConstruct(World worldIn, int x, int z, CallbackInfo ci) {
@@ -148,6 +155,31 @@ public net.minecraft.world.chunk.Chunk[] getNeighborArray() {
     @Override
     public void markChunkDirty() {
         this.dirty = true;
+        this.cachedChunkPacketData = null;
+    }
+
+    @Nullable
+    @Override
+    public CachedChunkPacketData getCachedChunkPacketData() {
+        return this.cachedChunkPacketData;
+    }
+
+    @Override
+    public void setCachedChunkPacketData(@Nullable final CachedChunkPacketData data) {
+        this.cachedChunkPacketData = data;
+    }
+
+    @Inject(
+        method = {
+            "markDirty",
+            "setLightFor",
+            "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V",
+            "removeTileEntity(Lnet/minecraft/util/math/BlockPos;)V"
+        },
+        at = @At("HEAD")
+    )
+    private void impl$invalidateCachedChunkPacket(final CallbackInfo ci) {
+        this.cachedChunkPacketData = null;
     }
 
     @Override
@@ -180,17 +212,53 @@ public void setPersistedChunk(final boolean flag) {
     }
 
     @Override
-    public boolean isSpawning() {
-        return this.isSpawning;
+    public int getCreatureCount(final EnumCreatureType type) {
+        return this.creatureCounts[type.ordinal()];
     }
 
     @Override
-    public void setIsSpawning(final boolean spawning) {
-        this.isSpawning = spawning;
+    public void updateCreatureCounts(final Entity entity) {
+        int mask = 0;
+        for (final EnumCreatureType type : CREATURE_TYPES) {
+            if (SpongeImplHooks.countsTowardsSpawnLimit(entity, type)) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+        this.impl$setCreatureTypeMask(entity, mask);
+    }
+
+    @Override
+    public void removeCreatureCounts(final Entity entity) {
+        this.impl$setCreatureTypeMask(entity, 0);
+    }
+
+    private void impl$setCreatureTypeMask(final Entity entity, final int mask) {
+        final int previous = ((EntityBridge) entity).bridge$getCreatureTypeMask();
+        if (previous == mask) {
+            return;
+        }
+        ((EntityBridge) entity).bridge$setCreatureTypeMask(mask);
+        for (final EnumCreatureType type : CREATURE_TYPES) {
+            final int bit = 1 << type.ordinal();
+            final int delta = ((mask & bit) != 0 ? 1 : 0) - ((previous & bit) != 0 ? 1 : 0);
+            if (delta != 0) {
+                this.creatureCounts[type.ordinal()] += delta;
+                if (this.creatureCountsInWorld) {
+                    ((ServerWorldBridge) this.world).bridge$adjustCreatureCount(type, delta);
+                }
+            }
+        }
     }
 
     @Inject(method = "addEntity", at = @At("RETURN"))
     private void impl$SetActiveChunkOnEntityAdd(final Entity entityIn, final CallbackInfo ci) {
+        if (!this.world.isRemote) {
+            final ChunkBridge previous = ((ActiveChunkReferantBridge) entityIn).bridge$getActiveChunk();
+            if (previous != null && previous != this) {
+                previous.removeCreatureCounts(entityIn);
+            }
+            this.updateCreatureCounts(entityIn);
+        }
         ((ActiveChunkReferantBridge) entityIn).bridge$setActiveChunk(this);
     }
 
@@ -203,6 +271,9 @@ public void setIsSpawning(final boolean spawning) {
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
     private void impl$ResetEntityActiveChunk(final Entity entityIn, final int index, final CallbackInfo ci) {
+        if (!this.world.isRemote && ((ActiveChunkReferantBridge) entityIn).bridge$getActiveChunk() == this) {
+            this.removeCreatureCounts(entityIn);
+        }
         ((ActiveChunkReferantBridge) entityIn).bridge$setActiveChunk(null);
     }
 
@@ -225,6 +296,11 @@ public void setIsSpawning(final boolean spawning) {
 
     @Inject(method = "onLoad", at = @At("RETURN"))
     private void impl$UpdateNeighborsOnLoad(final CallbackInfo ci) {
+        if (!this.world.isRemote && !this.creatureCountsInWorld) {
+            // Entities are read into the chunk before it is loaded, so they are only added to the world totals now
+            this.impl$addCreatureCountsToWorld(1);
+            this.creatureCountsInWorld = true;
+        }
         for (final Direction direction : Constants.Chunk.CARDINAL_DIRECTIONS) {
             final Vector3i neighborPosition = ((Chunk) this).getPosition().add(direction.asBlockOffset());
             final ChunkProviderBridge spongeChunkProvider = (ChunkProviderBridge) this.world.getChunkProvider();
@@ -246,6 +322,24 @@ public void setIsSpawning(final boolean spawning) {
         }
     }
 
+    @Inject(method = "onUnload", at = @At("HEAD"))
+    private void impl$RemoveCreatureCountsOnUnload(final CallbackInfo ci) {
+        this.cachedChunkPacketData = null;
+        if (this.creatureCountsInWorld) {
+            this.impl$addCreatureCountsToWorld(-1);
+            this.creatureCountsInWorld = false;
+        }
+    }
+
+    private void impl$addCreatureCountsToWorld(final int sign) {
+        for (final EnumCreatureType type : CREATURE_TYPES) {
+            final int count = this.creatureCounts[type.ordinal()];
+            if (count != 0) {
+                ((ServerWorldBridge) this.world).bridge$adjustCreatureCount(type, sign * count);
+            }
+        }
+    }
+
     @Inject(method = "onUnload", at = @At("RETURN"))
     private void impl$UpdateNeighborsOnUnload(final CallbackInfo ci) {
         for (final Direction direction : Constants.Chunk.CARDINAL_DIRECTIONS) {
@@ -402,6 +496,7 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
         final int modifiedY = yPos & 15;
 
         extendedblockstorage.set(xPos, modifiedY, zPos, newState);
+        this.cachedChunkPacketData = null;
 
 
         // if (block1 != block) // Sponge - Forge removes this change.
@@ -593,6 +688,7 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
 
     @Override
     public void removeTileEntity(final TileEntity removed) {
+        this.cachedChunkPacketData = null;
         final TileEntity tileentity = this.tileEntities.remove(removed.getPos());
         if (tileentity != removed && tileentity != null) {
             // Because multiple requests to remove a tile entity could cause for checks
@@ -608,6 +704,7 @@ public void removeTileEntity(final TileEntity removed) {
 
     @Override
     public void setTileEntity(final BlockPos pos, final TileEntity added) {
+        this.cachedChunkPacketData = null;
         if (added.getWorld() != this.world) {
             // Forge adds this because some mods do stupid things....
             added.setWorld(this.world);
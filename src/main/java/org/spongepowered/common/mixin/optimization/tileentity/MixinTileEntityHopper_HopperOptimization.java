@@ -24,16 +24,61 @@
  */
 package org.spongepowered.common.mixin.optimization.tileentity;
 
+import net.minecraft.block.BlockHopper;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.IHopper;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EntitySelectors;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.optimization.HopperOptimizationBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedHopperBridge;
+import org.spongepowered.common.event.ShouldFire;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = TileEntityHopper.class, priority = 1300)
-public class MixinTileEntityHopper_HopperOptimization extends MixinTileEntity_HopperOptimization {
+public class MixinTileEntityHopper_HopperOptimization extends MixinTileEntity_HopperOptimization implements OptimizedHopperBridge {
+
+    // A hopper that fails to transfer is re-probed at least this often, in case
+    // the adjacent inventory was changed without being marked dirty.
+    private static final int MAX_SLEEP_TICKS = 20;
+
+    @Shadow public static IInventory getSourceInventory(final IHopper hopper) {
+        throw new AbstractMethodError("Shadow");
+    }
+
+    @Shadow @Nullable private IInventory getInventoryForHopperTransfer() {
+        return null; // Shadowed
+    }
+
+    @Nullable private TileEntity hopper$cachedSource;
+    @Nullable private TileEntity hopper$cachedDestination;
+    @Nullable private EnumFacing hopper$cachedDestinationFacing;
+
+    @Nullable private TileEntity hopper$pullSleepSource;
+    private int hopper$pullSleepSourceCount;
+    private int hopper$pullSleepSelfCount;
+    private long hopper$pullSleepUntil;
+
+    @Nullable private TileEntity hopper$pushSleepDestination;
+    private int hopper$pushSleepDestinationCount;
+    private int hopper$pushSleepSelfCount;
+    private long hopper$pushSleepUntil;
 
     @Redirect(method = "insertStack",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/inventory/IInventory;setInventorySlotContents(ILnet/minecraft/item/ItemStack;)V"))
@@ -47,4 +92,145 @@ public class MixinTileEntityHopper_HopperOptimization extends MixinTileEntity_Ho
         }
     }
 
+    /**
+     * Only tile entities that stay the same inventory for as long as they are
+     * valid can be cached. A single chest becomes a double chest when another
+     * chest is placed next to it, without either tile entity being invalidated.
+     */
+    private static boolean hopper$canCacheInventory(@Nullable final IInventory inventory) {
+        return inventory instanceof TileEntity && !(inventory instanceof TileEntityChest);
+    }
+
+    private static boolean hopper$canSleep() {
+        // Listeners may cancel transfers based on anything, so always retry when there are any
+        return !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE && !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST;
+    }
+
+    private long hopper$getWorldTime() {
+        return ((TileEntity) (Object) this).getWorld().getTotalWorldTime();
+    }
+
+    private EnumFacing hopper$getFacing() {
+        return BlockHopper.getFacing(((TileEntity) (Object) this).getBlockMetadata());
+    }
+
+    @Redirect(method = "transferItemsOut",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getInventoryForHopperTransfer()Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private IInventory hopper$getCachedDestination(final TileEntityHopper self) {
+        final EnumFacing facing = this.hopper$getFacing();
+        final TileEntity cached = this.hopper$cachedDestination;
+        if (cached != null && !cached.isInvalid() && facing == this.hopper$cachedDestinationFacing) {
+            return (IInventory) cached;
+        }
+        final IInventory destination = this.getInventoryForHopperTransfer();
+        this.hopper$cachedDestination = hopper$canCacheInventory(destination) ? (TileEntity) destination : null;
+        this.hopper$cachedDestinationFacing = facing;
+        return destination;
+    }
+
+    @Override
+    @Nullable
+    public IInventory hopperBridge$getSourceInventory() {
+        final TileEntity cached = this.hopper$cachedSource;
+        if (cached != null && !cached.isInvalid()) {
+            return (IInventory) cached;
+        }
+        final IInventory source = getSourceInventory((IHopper) this);
+        this.hopper$cachedSource = hopper$canCacheInventory(source) ? (TileEntity) source : null;
+        return source;
+    }
+
+    @Redirect(method = "pullItems",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getSourceInventory(Lnet/minecraft/tileentity/IHopper;)Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private static IInventory hopper$getCachedSource(final IHopper hopper) {
+        if (hopper instanceof OptimizedHopperBridge) {
+            return ((OptimizedHopperBridge) hopper).hopperBridge$getSourceInventory();
+        }
+        return getSourceInventory(hopper);
+    }
+
+    @Redirect(method = "pullItems",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getCaptureItems(Lnet/minecraft/world/World;DDD)Ljava/util/List;"))
+    private static List<EntityItem> hopper$skipItemSearchWhenCovered(final World world, final double x, final double y, final double z,
+        final IHopper hopper) {
+        // Items can't rest inside a full cube above the hopper, so only the bowl of the hopper itself
+        // needs to be searched, the vanilla box starts at the centre of the hopper
+        if (hopper instanceof TileEntityHopper && world.getBlockState(new BlockPos(x, y + 1.0D, z)).isNormalCube()) {
+            return world.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(x - 0.5D, y, z - 0.5D, x + 0.5D, y + 0.5D, z + 0.5D),
+                EntitySelectors.IS_ALIVE);
+        }
+        return TileEntityHopper.getCaptureItems(world, x, y, z);
+    }
+
+    @Inject(method = "transferItemsOut", at = @At("HEAD"), cancellable = true)
+    private void hopper$skipPushWhileSleeping(final CallbackInfoReturnable<Boolean> cir) {
+        final TileEntity destination = this.hopper$pushSleepDestination;
+        if (destination == null) {
+            return;
+        }
+        if (hopper$canSleep() && !destination.isInvalid() && this.hopper$getWorldTime() < this.hopper$pushSleepUntil
+            && ((HopperOptimizationBridge) destination).hopper$getModificationCount() == this.hopper$pushSleepDestinationCount
+            && this.hopper$getModificationCount() == this.hopper$pushSleepSelfCount) {
+            cir.setReturnValue(false);
+            return;
+        }
+        this.hopper$pushSleepDestination = null;
+    }
+
+    @Inject(method = "transferItemsOut", at = @At("RETURN"))
+    private void hopper$sleepIfNothingPushed(final CallbackInfoReturnable<Boolean> cir) {
+        final TileEntity destination = this.hopper$cachedDestination;
+        if (cir.getReturnValueZ() || destination == null || destination.isInvalid() || !hopper$canSleep()) {
+            return;
+        }
+        this.hopper$pushSleepDestination = destination;
+        this.hopper$pushSleepDestinationCount = ((HopperOptimizationBridge) destination).hopper$getModificationCount();
+        this.hopper$pushSleepSelfCount = this.hopper$getModificationCount();
+        this.hopper$pushSleepUntil = this.hopper$getWorldTime() + MAX_SLEEP_TICKS;
+    }
+
+    @Override
+    public boolean hopperBridge$isPullSleeping() {
+        final TileEntity source = this.hopper$pullSleepSource;
+        if (source == null) {
+            return false;
+        }
+        if (hopper$canSleep() && !source.isInvalid() && this.hopper$getWorldTime() < this.hopper$pullSleepUntil
+            && ((HopperOptimizationBridge) source).hopper$getModificationCount() == this.hopper$pullSleepSourceCount
+            && this.hopper$getModificationCount() == this.hopper$pullSleepSelfCount) {
+            return true;
+        }
+        this.hopper$pullSleepSource = null;
+        return false;
+    }
+
+    @Override
+    public void hopperBridge$onPullAttempt(final boolean transferred) {
+        final TileEntity source = this.hopper$cachedSource;
+        // Without a tile entity above, items may drop in at any time
+        if (transferred || source == null || source.isInvalid() || !hopper$canSleep()) {
+            return;
+        }
+        this.hopper$pullSleepSource = source;
+        this.hopper$pullSleepSourceCount = ((HopperOptimizationBridge) source).hopper$getModificationCount();
+        this.hopper$pullSleepSelfCount = this.hopper$getModificationCount();
+        this.hopper$pullSleepUntil = this.hopper$getWorldTime() + MAX_SLEEP_TICKS;
+    }
+
+    @Inject(method = "pullItems", at = @At("HEAD"), cancellable = true)
+    private static void hopper$skipPullWhileSleeping(final IHopper hopper, final CallbackInfoReturnable<Boolean> cir) {
+        if (hopper instanceof OptimizedHopperBridge && ((OptimizedHopperBridge) hopper).hopperBridge$isPullSleeping()) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "pullItems", at = @At("RETURN"))
+    private static void hopper$sleepIfNothingPulled(final IHopper hopper, final CallbackInfoReturnable<Boolean> cir) {
+        if (hopper instanceof OptimizedHopperBridge) {
+            ((OptimizedHopperBridge) hopper).hopperBridge$onPullAttempt(cir.getReturnValueZ());
+        }
+    }
+
 }
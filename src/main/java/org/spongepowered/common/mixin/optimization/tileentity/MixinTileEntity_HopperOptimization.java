@@ -35,6 +35,7 @@
 public class MixinTileEntity_HopperOptimization implements HopperOptimizationBridge {
 
     private boolean hopper$shouldCancelDirtyUpdate = false;
+    private int hopper$modificationCount;
 
     @Override
     public boolean hopper$getCancelDirtyUpdate() {
@@ -46,8 +47,14 @@ public class MixinTileEntity_HopperOptimization implements HopperOptimizationBri
         this.hopper$shouldCancelDirtyUpdate = canMarkDirty;
     }
 
+    @Override
+    public int hopper$getModificationCount() {
+        return this.hopper$modificationCount;
+    }
+
     @Inject(method = "markDirty", at = @At("HEAD"), cancellable = true)
     private void hopper$DoNotUpdateIfMarked(final CallbackInfo ci) {
+        this.hopper$modificationCount++;
         if (this.hopper$shouldCancelDirtyUpdate) {
             ci.cancel();
         }
@@ -26,9 +26,8 @@
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockRedstoneWire;
 import net.minecraft.block.state.IBlockState;
@@ -190,6 +189,25 @@ public static BlockPos[] computeAllNeighbors(final BlockPos pos) {
         return n;
     }
 
+    /*
+     * The same neighbor ordering as relative offsets, so that node cache lookups for
+     * already known positions don't have to allocate block positions.
+     */
+    private static final BlockPos[] neighborOffsets = computeAllNeighbors(BlockPos.ORIGIN);
+
+    /*
+     * Pack a block position into a node cache key.  Vec3i.hashCode collides heavily
+     * for the compact shapes redstone circuits are built in, so the cache is keyed by
+     * a packed long instead.
+     */
+    private static long nodeKey(final int x, final int y, final int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | ((long) z & 0x3FFFFFFL);
+    }
+
+    private static long nodeKey(final BlockPos pos) {
+        return nodeKey(pos.getX(), pos.getY(), pos.getZ());
+    }
+
     /*
      * We only want redstone wires to update redstone wires that are
      * immediately adjacent.  Some more distant updates can result
@@ -308,7 +326,13 @@ public static enum Type {
      * Keep track of all block positions discovered during search and their current states.
      * We want to remember one entry for each position.
      */
-    private final Map<BlockPos, UpdateNode> nodeCache = new HashMap<>();
+    private final Long2ObjectOpenHashMap<UpdateNode> nodeCache = new Long2ObjectOpenHashMap<>();
+
+    /*
+     * Walks that discovered more positions than this shrink the cache back down afterwards,
+     * ordinary walks keep the table they grew so the next walk doesn't have to rehash.
+     */
+    private static final int NODE_CACHE_TRIM_THRESHOLD = 1 << 14;
 
 
     /*
@@ -484,9 +508,9 @@ private void updateNode(final World worldIn, final UpdateNode upd1, final int la
      */
     private void findNeighbors(final World worldIn, final UpdateNode upd1) {
         final BlockPos pos = upd1.self;
-
-        // Get the list of neighbor coordinates
-        final BlockPos[] neighbors = computeAllNeighbors(pos);
+        final int x = pos.getX();
+        final int y = pos.getY();
+        final int z = pos.getZ();
 
         // Temporary array of neighbors in cardinal ordering
         final UpdateNode[] neighbor_nodes = new UpdateNode[24];
@@ -496,15 +520,19 @@ private void findNeighbors(final World worldIn, final UpdateNode upd1) {
 
         for (int i=0; i<24; i++) {
             // Look up each neighbor in the node cache
-            final BlockPos pos2 = neighbors[i];
-            UpdateNode upd2 = this.nodeCache.get(pos2);
+            final BlockPos offset = neighborOffsets[i];
+            final int x2 = x + offset.getX();
+            final int y2 = y + offset.getY();
+            final int z2 = z + offset.getZ();
+            final long key2 = nodeKey(x2, y2, z2);
+            UpdateNode upd2 = this.nodeCache.get(key2);
             if (upd2 == null) {
                 // If this is a previously unreached position, create
                 // a new update node, add it to the cache, and identify what it is.
                 upd2 = new UpdateNode();
-                upd2.self = pos2;
+                upd2.self = new BlockPos(x2, y2, z2);
                 upd2.parent = pos;
-                this.nodeCache.put(pos2, upd2);
+                this.nodeCache.put(key2, upd2);
                 identifyNode(worldIn, upd2);
             }
 
@@ -726,26 +754,26 @@ private IBlockState scheduleReentrantNeighborChanged(final World worldIn, final
         if (source != null) {
             // If the cause of the redstone wire update is known, we can use that to help determine
             // direction of information flow.
-            UpdateNode src = this.nodeCache.get(source);
+            UpdateNode src = this.nodeCache.get(nodeKey(source));
             if (src == null) {
                 src = new UpdateNode();
                 src.self = source;
                 src.parent = source;
                 src.visited = true;
                 identifyNode(worldIn, src);
-                this.nodeCache.put(source, src);
+                this.nodeCache.put(nodeKey(source), src);
             }
         }
 
         // Find or generate a node for the redstone block position receiving the update
-        UpdateNode upd = this.nodeCache.get(pos);
+        UpdateNode upd = this.nodeCache.get(nodeKey(pos));
         if (upd == null) {
             upd = new UpdateNode();
             upd.self = pos;
             upd.parent = pos;
             upd.visited = true;
             identifyNode(worldIn, upd);
-            this.nodeCache.put(pos, upd);
+            this.nodeCache.put(nodeKey(pos), upd);
         }
         upd.currentState = newState;
 
@@ -811,7 +839,7 @@ public IBlockState updateSurroundingRedstone(final World worldIn, final BlockPos
             src.self = source;
             src.parent = source;
             src.visited = true;
-            this.nodeCache.put(source, src);
+            this.nodeCache.put(nodeKey(source), src);
             identifyNode(worldIn, src);
         }
 
@@ -824,7 +852,7 @@ public IBlockState updateSurroundingRedstone(final World worldIn, final BlockPos
         upd.currentState = newState;
         upd.type = UpdateNode.Type.REDSTONE;
         upd.visited = true;
-        this.nodeCache.put(pos, upd);
+        this.nodeCache.put(nodeKey(pos), upd);
         propagateChanges(worldIn, upd, 0);
     
         // Perform the walk over all directly reachable redstone wire blocks, propagating wire value 
@@ -834,8 +862,12 @@ public IBlockState updateSurroundingRedstone(final World worldIn, final BlockPos
         // With the whole search completed, clear the list of all known blocks.
         // We do not want to keep around state information that may be changed by other code.
         // In theory, we could cache the neighbor block positions, but that is a separate
-        // optimization.
+        // optimization.  An unusually large walk shouldn't pin its table for the rest of the session either.
+        final boolean oversized = this.nodeCache.size() > NODE_CACHE_TRIM_THRESHOLD;
         this.nodeCache.clear();
+        if (oversized) {
+            this.nodeCache.trim(NODE_CACHE_TRIM_THRESHOLD);
+        }
 
         return newState;
     }
@@ -76,9 +76,14 @@
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 public class EntityActivationRange {
 
+    // Sentinel values of resolved activation ranges
+    private static final int RANGE_ALWAYS_ACTIVE = Integer.MIN_VALUE;
+    private static final int RANGE_NOT_CONFIGURED = Integer.MIN_VALUE + 1;
+
     private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
             .put((byte) 1, "monster")
             .put((byte) 2, "creature")
@@ -162,34 +167,44 @@ public static void initializeEntityActivationState(Entity entity) {
             spongeType.setActivationRangeInitialized(true);
         }
 
-        EntityActivationModCategory entityMod = config.getModList().get(spongeType.getModId().toLowerCase());
-        int defaultActivationRange = config.getDefaultRanges().get(activationTypeMappings.get(activationType));
-        if (entityMod == null) {
-            // use default activation range
-            spongeEntity.activation$setActivationRange(defaultActivationRange);
-            if (defaultActivationRange > 0) {
-                spongeEntity.activation$setDefaultActivationState(false);
-            }
+        // The activation type derives from the entity class, so the range is resolved once per entity type
+        final ConcurrentMap<EntityType, Integer> resolvedRanges = config.getResolvedRanges();
+        final Integer resolvedRange = resolvedRanges.get(spongeType);
+        final int activationRange;
+        if (resolvedRange != null) {
+            activationRange = resolvedRange;
         } else {
-            if (!entityMod.isEnabled()) {
-                spongeEntity.activation$setDefaultActivationState(true);
-                return;
+            // Racing threads resolve the same range from the same config, so either result can be kept
+            activationRange = resolveActivationRange(config, spongeType, activationType);
+            resolvedRanges.putIfAbsent(spongeType, activationRange);
+        }
+        if (activationRange == RANGE_ALWAYS_ACTIVE) {
+            spongeEntity.activation$setDefaultActivationState(true);
+        } else if (activationRange != RANGE_NOT_CONFIGURED) {
+            spongeEntity.activation$setActivationRange(activationRange);
+            if (activationRange > 0) {
+                spongeEntity.activation$setDefaultActivationState(false);
             }
+        }
+    }
 
-            Integer defaultModActivationRange = entityMod.getDefaultRanges().get(activationTypeMappings.get(activationType));
-            Integer entityActivationRange = entityMod.getEntityList().get(type.getName().toLowerCase());
-            if (defaultModActivationRange != null && entityActivationRange == null) {
-                spongeEntity.activation$setActivationRange(defaultModActivationRange);
-                if (defaultModActivationRange > 0) {
-                    spongeEntity.activation$setDefaultActivationState(false);
-                }
-            } else if (entityActivationRange != null) {
-                spongeEntity.activation$setActivationRange(entityActivationRange);
-                if (entityActivationRange > 0) {
-                    spongeEntity.activation$setDefaultActivationState(false);
-                }
-            }
+    private static int resolveActivationRange(EntityActivationRangeCategory config, SpongeEntityType type, byte activationType) {
+        final String activationTypeName = activationTypeMappings.get(activationType);
+        final EntityActivationModCategory entityMod = config.getModList().get(type.getModId().toLowerCase());
+        if (entityMod == null) {
+            // use default activation range
+            return config.getDefaultRanges().get(activationTypeName);
+        }
+        if (!entityMod.isEnabled()) {
+            return RANGE_ALWAYS_ACTIVE;
+        }
+
+        final Integer entityActivationRange = entityMod.getEntityList().get(type.getName().toLowerCase());
+        if (entityActivationRange != null) {
+            return entityActivationRange;
         }
+        final Integer defaultModActivationRange = entityMod.getDefaultRanges().get(activationTypeName);
+        return defaultModActivationRange != null ? defaultModActivationRange : RANGE_NOT_CONFIGURED;
     }
 
     /**
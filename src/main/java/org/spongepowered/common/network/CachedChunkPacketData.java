@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.List;
+
+/**
+ * The encoded contents of a full {@link SPacketChunkData} for a single
+ * {@link Chunk}. Once constructed, the buffer and tile entity tags are
+ * never written to again, so any number of packets (and netty threads
+ * writing those packets) can share the same instance.
+ *
+ * <p>An instance is only considered valid for the world tick it was
+ * encoded in, and the owning chunk discards it as soon as a block, light
+ * value or tile entity in the chunk changes. A stale instance is dropped
+ * the next time a full chunk packet is built, and when the chunk unloads
+ * or its last watcher leaves.</p>
+ */
+public final class CachedChunkPacketData {
+
+    private final long worldTime;
+    private final byte[] buffer;
+    private final int availableSections;
+    private final List<NBTTagCompound> tileEntityTags;
+
+    public CachedChunkPacketData(long worldTime, byte[] buffer, int availableSections, List<NBTTagCompound> tileEntityTags) {
+        this.worldTime = worldTime;
+        this.buffer = buffer;
+        this.availableSections = availableSections;
+        this.tileEntityTags = ImmutableList.copyOf(tileEntityTags);
+    }
+
+    public boolean isValidFor(long worldTime) {
+        return this.worldTime == worldTime;
+    }
+
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
+
+    public int getAvailableSections() {
+        return this.availableSections;
+    }
+
+    public List<NBTTagCompound> getTileEntityTags() {
+        return this.tileEntityTags;
+    }
+}
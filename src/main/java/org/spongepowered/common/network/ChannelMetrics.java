@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters for a single plugin message channel. Counters are
+ * updated from both the server thread and the netty threads, so they are
+ * backed by {@link LongAdder}s rather than synchronized fields.
+ */
+public final class ChannelMetrics {
+
+    private final String channel;
+    private final LongAdder messagesIn = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder messagesOut = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+
+    ChannelMetrics(String channel) {
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return this.channel;
+    }
+
+    public void recordIncoming(int bytes) {
+        this.messagesIn.increment();
+        this.bytesIn.add(bytes);
+    }
+
+    public void recordOutgoing(int messages, long bytes) {
+        this.messagesOut.add(messages);
+        this.bytesOut.add(bytes);
+    }
+
+    public long getMessagesIn() {
+        return this.messagesIn.sum();
+    }
+
+    public long getBytesIn() {
+        return this.bytesIn.sum();
+    }
+
+    public long getMessagesOut() {
+        return this.messagesOut.sum();
+    }
+
+    public long getBytesOut() {
+        return this.bytesOut.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("channel", this.channel)
+                .add("messagesIn", getMessagesIn())
+                .add("bytesIn", getBytesIn())
+                .add("messagesOut", getMessagesOut())
+                .add("bytesOut", getBytesOut())
+                .toString();
+    }
+}
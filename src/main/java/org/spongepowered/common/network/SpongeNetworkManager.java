@@ -29,6 +29,7 @@
 import static io.netty.buffer.Unpooled.wrappedBuffer;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SPacketCustomPayload;
@@ -39,10 +40,15 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class SpongeNetworkManager implements ChannelRegistrar {
 
+    private static final Map<String, ChannelMetrics> channelMetrics = new ConcurrentHashMap<>();
+
     protected PluginContainer checkCreateChannelArgs(Object plugin, String channel) {
         if (checkNotNull(channel, "channel").length() > 20) {
             throw new ChannelRegistrationException("Channel name cannot be greater than 20 characters");
@@ -64,6 +70,43 @@ public static ChannelBuf toChannelBuf(ByteBuf buf) {
         return (ChannelBuf) (buf instanceof PacketBuffer ? buf : new PacketBuffer(buf));
     }
 
+    /**
+     * Records a payload received from a client. Only channels that were
+     * registered by a plugin are tracked, clients are free to send any
+     * channel name they like.
+     *
+     * @param channel The channel name
+     * @param bytes The size of the payload
+     */
+    public static void recordIncoming(String channel, int bytes) {
+        final ChannelMetrics metrics = channelMetrics.get(channel);
+        if (metrics != null) {
+            metrics.recordIncoming(bytes);
+        }
+    }
+
+    /**
+     * Records a payload written to a client. Like incoming payloads, only
+     * channels that were registered by a plugin are tracked.
+     *
+     * @param channel The channel name
+     * @param bytes The size of the payload
+     */
+    public static void recordOutgoing(String channel, int bytes) {
+        final ChannelMetrics metrics = channelMetrics.get(channel);
+        if (metrics != null) {
+            metrics.recordOutgoing(1, bytes);
+        }
+    }
+
+    public static ChannelMetrics getChannelMetrics(String channel) {
+        return channelMetrics.computeIfAbsent(channel, ChannelMetrics::new);
+    }
+
+    public static Collection<ChannelMetrics> getAllChannelMetrics() {
+        return ImmutableList.copyOf(channelMetrics.values());
+    }
+
     public static abstract class AbstractChannelBinding implements ChannelBinding {
 
         private final ChannelRegistrar registrar;
@@ -74,6 +117,7 @@ public AbstractChannelBinding(ChannelRegistrar registrar, String channelName, Pl
             this.registrar = registrar;
             this.channelName = channelName;
             this.owner = owner;
+            getChannelMetrics(channelName);
         }
 
         @Override
@@ -26,11 +26,14 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.GameProfileManager;
+import org.spongepowered.api.profile.ProfileNotFoundException;
 import org.spongepowered.api.profile.property.ProfileProperty;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.profile.query.GameProfileQuery;
@@ -39,41 +42,67 @@
 import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 public final class SpongeProfileManager implements GameProfileManager {
 
-    private static final int LOOKUP_INTERVAL = SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getGameProfileQueryTaskInterval();
+    private final int lookupInterval = SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getGameProfileQueryTaskInterval();
     private final GameProfileCache defaultCache = (GameProfileCache) SpongeImpl.getServer().getPlayerProfileCache();
     private GameProfileCache cache = this.defaultCache;
     private ExecutorService gameLookupExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async User Lookup Thread").build());
+    // Uuids queued for a lookup, so the same uuid isn't queued again while it waits
+    private final Set<UUID> queuedLookups = ConcurrentHashMap.newKeySet();
+    // Uuids that recently failed to resolve, mostly offline mode players without an account
+    private final Cache<UUID, Boolean> failedLookups = CacheBuilder.newBuilder()
+            .expireAfterWrite(Math.max(0, SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getGameProfileFailedLookupRetry()), TimeUnit.MINUTES)
+            .build();
+    // Requests that are currently running, shared by concurrent cached requests for the same profile
+    private final ConcurrentMap<UUID, CompletableFuture<GameProfile>> pendingById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<GameProfile>> pendingByName = new ConcurrentHashMap<>();
 
     public SpongeProfileManager() {
     }
 
     public void lookupUserAsync(UUID uuid) {
+        checkNotNull(uuid, "uniqueId");
+        if (SpongeUsernameCache.getLastKnownUsername(uuid) != null || this.failedLookups.getIfPresent(uuid) != null
+                || !this.queuedLookups.add(uuid)) {
+            return;
+        }
         this.gameLookupExecutorService.execute(() -> {
-            if (SpongeUsernameCache.getLastKnownUsername(uuid) != null) {
-                return;
-            }
-
             try {
-                Sponge.getServer().getGameProfileManager().get(checkNotNull(uuid, "uniqueId")).get();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            } catch (ExecutionException e) {
-                e.printStackTrace();
+                if (SpongeUsernameCache.getLastKnownUsername(uuid) != null) {
+                    return;
+                }
+
+                try {
+                    if (isProfileMissing(Sponge.getServer().getGameProfileManager().get(uuid))) {
+                        this.failedLookups.put(uuid, true);
+                    }
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            } finally {
+                this.queuedLookups.remove(uuid);
             }
 
             try {
-                Thread.sleep(LOOKUP_INTERVAL * 1000);
+                Thread.sleep(this.lookupInterval * 1000);
             } catch (InterruptedException e) {
                 e.printStackTrace();
             }
@@ -93,7 +122,11 @@ public ProfileProperty createProfileProperty(String name, String value, @Nullabl
 
     @Override
     public CompletableFuture<GameProfile> get(UUID uniqueId, final boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, checkNotNull(uniqueId, "unique id"), useCache));
+        checkNotNull(uniqueId, "unique id");
+        if (!useCache) {
+            return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, uniqueId, false));
+        }
+        return sharePending(this.pendingById, uniqueId, () -> this.submitTask(new UniqueIdQuery.SingleGet(this.cache, uniqueId, true)));
     }
 
     @Override
@@ -103,7 +136,13 @@ public CompletableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniq
 
     @Override
     public CompletableFuture<GameProfile> get(String name, boolean useCache) {
-        return this.submitTask(new NameQuery.SingleGet(this.cache, checkNotNull(name, "name"), useCache));
+        checkNotNull(name, "name");
+        if (!useCache) {
+            return this.submitTask(new NameQuery.SingleGet(this.cache, name, false));
+        }
+        // Names are case insensitive
+        return sharePending(this.pendingByName, name.toLowerCase(Locale.ROOT),
+                () -> this.submitTask(new NameQuery.SingleGet(this.cache, name, true)));
     }
 
     @Override
@@ -131,6 +170,32 @@ public GameProfileCache getDefaultCache() {
         return this.defaultCache;
     }
 
+    /**
+     * Joins the request already running for the key, or starts a new one.
+     * Each caller gets its own dependent future, so cancelling one doesn't
+     * affect the others.
+     */
+    static <K, V> CompletableFuture<V> sharePending(ConcurrentMap<K, CompletableFuture<V>> pending, K key,
+            Supplier<CompletableFuture<V>> request) {
+        final CompletableFuture<V> future = pending.computeIfAbsent(key, k -> request.get());
+        future.whenComplete((profile, throwable) -> pending.remove(key, future));
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Waits for a profile lookup and gets whether it showed that no profile
+     * exists, so the lookup isn't worth retrying for a while. Only definitive
+     * misses count, transient errors such as rate limits are retried as usual.
+     */
+    static boolean isProfileMissing(Future<GameProfile> lookup) throws InterruptedException {
+        try {
+            return !lookup.get().getName().isPresent();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return e.getCause() instanceof ProfileNotFoundException;
+        }
+    }
+
     private <T> CompletableFuture<T> submitTask(Callable<T> callable) {
         return SpongeImpl.getScheduler().submitAsyncTask(callable);
     }
@@ -102,6 +102,25 @@ public static boolean setFactory(Class<?> apiClass, Object factory) {
         }
     }
 
+    /**
+     * Lower cases the given catalog id with {@link Locale#ENGLISH}, returning
+     * the same instance without any allocation or per character case mapping
+     * if the id is already lower case, as is the case for nearly all ids
+     * coming from configs and commands.
+     *
+     * @param id The id
+     * @return The lower cased id
+     */
+    public static String toLowerCaseId(String id) {
+        for (int i = 0, length = id.length(); i < length; i++) {
+            final char c = id.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || c > 127) {
+                return id.toLowerCase(Locale.ENGLISH);
+            }
+        }
+        return id;
+    }
+
     public static void setFinalStatic(Class<?> clazz, String fieldName, Object newValue) {
         try {
             Field field = clazz.getDeclaredField(fieldName);
@@ -93,6 +93,7 @@
 import org.spongepowered.common.event.registry.SpongeGameRegistryRegisterEvent;
 import org.spongepowered.common.item.recipe.crafting.SpongeCraftingRecipeRegistry;
 import org.spongepowered.common.network.status.SpongeFavicon;
+import org.spongepowered.common.registry.type.BlockStateRegistryModule;
 import org.spongepowered.common.registry.type.block.RotationRegistryModule;
 import org.spongepowered.common.registry.type.entity.AITaskTypeModule;
 import org.spongepowered.common.registry.type.scoreboard.DisplaySlotRegistryModule;
@@ -213,6 +214,7 @@ public void postInit() {
         registerModulePhase();
         SpongeImpl.getPropertyRegistry().completeRegistration();
         SpongeDataManager.finalizeRegistration();
+        BlockStateRegistryModule.getInstance().freeze();
         this.phase = RegistrationPhase.LOADED;
         for (RegistryModule module : REGISTRIES) {
             SpongeImpl.getLogger().error("Failed to register {}", module);
@@ -340,12 +342,15 @@ public <TUnknown, T extends CatalogType> T getTranslated(Class<TUnknown> clazz,
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends CatalogType> Optional<T> getType(Class<T> typeClass, String id) {
-        CatalogRegistryModule<T> registryModule = getRegistryModuleFor(typeClass).orElse(null);
+        // Avoid going through getRegistryModuleFor, this is called often enough by plugins
+        // parsing configs and commands that the extra Optional shows up
+        final CatalogRegistryModule<T> registryModule = (CatalogRegistryModule<T>) REGISTRY_MAP.get(checkNotNull(typeClass));
         if (registryModule == null) {
             return Optional.empty();
         }
-        return registryModule.getById(id.toLowerCase(Locale.ENGLISH));
+        return registryModule.getById(RegistryHelper.toLowerCaseId(id));
     }
 
     @Override
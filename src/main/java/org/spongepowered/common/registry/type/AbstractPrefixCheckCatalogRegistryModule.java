@@ -28,10 +28,10 @@
 
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.registry.CatalogRegistryModule;
+import org.spongepowered.common.registry.RegistryHelper;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,7 +48,7 @@ protected AbstractPrefixCheckCatalogRegistryModule(String defaultModIdToPrepend)
 
     @Override
     public Optional<T> getById(String id) {
-        String key = checkNotNull(id).toLowerCase(Locale.ENGLISH);
+        String key = RegistryHelper.toLowerCaseId(checkNotNull(id));
         if (!key.contains(":")) {
             key = this.defaultModIdToPrepend + ":" + key;
         }
@@ -27,12 +27,14 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import net.minecraft.block.state.pattern.BlockStateMatcher;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.trait.BlockTrait;
 import org.spongepowered.api.registry.CatalogRegistryModule;
 import org.spongepowered.api.util.Tuple;
+import org.spongepowered.common.registry.RegistryHelper;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,23 +43,45 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class BlockStateRegistryModule implements CatalogRegistryModule<BlockState> {
 
-    private final Map<String, BlockState> blockStateMap = new LinkedHashMap<>();
+    // Parsed ids are user input, keep the cache from growing without bounds
+    private static final int MAX_PARSED_STATE_CACHE_SIZE = 4096;
+
+    private Map<String, BlockState> blockStateMap = new LinkedHashMap<>();
+    // Block state ids with traits in a different order or with only some of the traits, as well as plain block type ids
+    private final Map<String, BlockState> parsedStateCache = new ConcurrentHashMap<>();
+    @Nullable private ImmutableList<BlockState> all;
+    private boolean frozen;
 
     public static BlockStateRegistryModule getInstance() {
         return Holder.INSTANCE;
     }
 
-    @SuppressWarnings({"rawTypes", "unchecked"})
     @Override
     public Optional<BlockState> getById(String id) {
-        final String state = checkNotNull(id, "Id cannot be null!").toLowerCase(Locale.ENGLISH);
+        final String state = RegistryHelper.toLowerCaseId(checkNotNull(id, "Id cannot be null!"));
         final BlockState potential = this.blockStateMap.get(state);
         if (potential != null) {
             return Optional.of(potential);
         }
+        final BlockState parsed = this.parsedStateCache.get(state);
+        if (parsed != null) {
+            return Optional.of(parsed);
+        }
+        final Optional<BlockState> found = parseBlockState(state);
+        if (found.isPresent() && this.parsedStateCache.size() < MAX_PARSED_STATE_CACHE_SIZE) {
+            this.parsedStateCache.put(state, found.get());
+        }
+        return found;
+    }
+
+    @SuppressWarnings({"rawTypes", "unchecked"})
+    private Optional<BlockState> parseBlockState(String state) {
         if (state.contains("[")) {
             final String[] split = state.split("\\[");
             final Optional<BlockType> blockType = BlockTypeRegistryModule.getInstance().getById(split[0]);
@@ -95,13 +119,37 @@ public Optional<BlockState> getById(String id) {
 
     @Override
     public Collection<BlockState> getAll() {
-        return ImmutableList.copyOf(this.blockStateMap.values());
+        if (this.all == null) {
+            this.all = ImmutableList.copyOf(this.blockStateMap.values());
+        }
+        return this.all;
     }
 
     void registerBlockState(BlockState blockState) {
         checkNotNull(blockState, "BlockState cannot be null!");
-        if (!this.blockStateMap.containsKey(blockState.getId().toLowerCase(Locale.ENGLISH))) {
-            this.blockStateMap.put(blockState.getId().toLowerCase(Locale.ENGLISH), blockState);
+        final String id = blockState.getId().toLowerCase(Locale.ENGLISH);
+        if (!this.blockStateMap.containsKey(id)) {
+            if (this.frozen) {
+                // Late registrations are not expected, but handle them by copying the frozen map
+                final Map<String, BlockState> copy = new LinkedHashMap<>(this.blockStateMap);
+                copy.put(id, blockState);
+                this.blockStateMap = ImmutableMap.copyOf(copy);
+            } else {
+                this.blockStateMap.put(id, blockState);
+            }
+            this.all = null;
+            this.parsedStateCache.clear();
+        }
+    }
+
+    /**
+     * Swaps the backing map for an immutable copy once all block states
+     * have been registered, which is cheaper to look up from.
+     */
+    public void freeze() {
+        if (!this.frozen) {
+            this.blockStateMap = ImmutableMap.copyOf(this.blockStateMap);
+            this.frozen = true;
         }
     }
 
@@ -94,7 +94,7 @@ public Optional<BlockType> getById(String id) {
         if (!id.contains(":") && !id.equals("none")) {
             id = "minecraft:" + id; // assume vanilla
         }
-        return Optional.ofNullable(this.blockTypeMappings.get(checkNotNull(id).toLowerCase(Locale.ENGLISH)));
+        return Optional.ofNullable(this.blockTypeMappings.get(RegistryHelper.toLowerCaseId(id)));
     }
 
     @Override
@@ -24,6 +24,12 @@
  */
 package org.spongepowered.common.text.chat;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketChat;
 import net.minecraft.util.text.ITextComponent;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
@@ -34,15 +40,28 @@
 import org.spongepowered.api.event.message.MessageEvent;
 import org.spongepowered.api.event.message.MessageEvent.MessageFormatter;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.ChatTypeMessageReceiver;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.packet.ChatPacketBridge;
 import org.spongepowered.common.text.SpongeTexts;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class ChatUtil {
 
+    private static final Map<Class<?>, Boolean> DEFAULT_DELIVERY = new ConcurrentHashMap<>();
+
     private ChatUtil() {
     }
 
@@ -58,7 +77,84 @@ public static void sendMessage(ITextComponent component, MessageChannel channel,
             event = SpongeEventFactory.createMessageChannelEvent(cause, channel, Optional.of(channel), formatter, false);
         }
         if (!SpongeImpl.postEvent(event) && !event.isMessageCancelled() && event.getChannel().isPresent()) {
-            event.getChannel().get().send(source, event.getMessage(), isChat ? ChatTypes.CHAT : ChatTypes.SYSTEM);
+            send(event.getChannel().get(), source, event.getMessage(), isChat ? ChatTypes.CHAT : ChatTypes.SYSTEM);
+        }
+    }
+
+    /**
+     * Sends the message to the channel, like {@link MessageChannel#send(Object, Text, ChatType)}.
+     * If the channel does not override the default delivery, the chat packet is only encoded
+     * once and shared between all players receiving the original, untransformed message,
+     * instead of copying and serializing the component for every single player.
+     *
+     * @param channel The channel
+     * @param sender The sender of the message
+     * @param original The original message
+     * @param type The chat type
+     */
+    public static void send(MessageChannel channel, @Nullable Object sender, Text original, ChatType type) {
+        checkNotNull(original, "original text");
+        checkNotNull(type, "type");
+        if (!usesDefaultDelivery(channel)) {
+            channel.send(sender, original, type);
+            return;
+        }
+        byte[] encoded = null;
+        ITextComponent component = null;
+        for (MessageReceiver member : channel.getMembers()) {
+            final Optional<Text> transformed = channel.transformMessage(sender, member, original, type);
+            if (!transformed.isPresent()) {
+                continue;
+            }
+            final Text text = transformed.get();
+            if (text == original && member instanceof EntityPlayerMP && !SpongeImplHooks.isFakePlayer((EntityPlayerMP) member)) {
+                if (component == null) {
+                    component = SpongeTexts.toComponent(original);
+                    if (type == ChatTypes.ACTION_BAR) {
+                        component = SpongeTexts.fixActionBarFormatting(component);
+                    }
+                    encoded = encode(component, type);
+                }
+                if (encoded != null) {
+                    final SPacketChat packet = new SPacketChat(component, (net.minecraft.util.text.ChatType) (Object) type);
+                    ((ChatPacketBridge) packet).bridge$setEncodedData(encoded);
+                    ((EntityPlayerMP) member).connection.sendPacket(packet);
+                    continue;
+                }
+            }
+            if (member instanceof ChatTypeMessageReceiver) {
+                ((ChatTypeMessageReceiver) member).sendMessage(type, text);
+            } else {
+                member.sendMessage(text);
+            }
+        }
+    }
+
+    private static boolean usesDefaultDelivery(MessageChannel channel) {
+        // The send overloads delegate to each other, so overriding any of them changes the delivery
+        return DEFAULT_DELIVERY.computeIfAbsent(channel.getClass(), channelClass -> {
+            for (Method method : channelClass.getMethods()) {
+                if (method.getName().equals("send") && !method.isDefault()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    @Nullable
+    private static byte[] encode(ITextComponent component, ChatType type) {
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            new SPacketChat(component, (net.minecraft.util.text.ChatType) (Object) type).writePacketData(buffer);
+            final byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            return data;
+        } catch (IOException e) {
+            // Let the packets serialize themselves, this will fail in the same way
+            return null;
+        } finally {
+            buffer.release();
         }
     }
 
@@ -63,6 +63,7 @@
 import org.spongepowered.api.resourcepack.ResourcePack;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.world.DimensionType;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
@@ -73,6 +74,7 @@
 import org.spongepowered.common.mixin.core.server.AccessorPlayerList;
 import org.spongepowered.common.mixin.core.server.MixinPlayerList;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.ChatUtil;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
@@ -377,7 +379,7 @@ public static void initializeConnectionToPlayer(final PlayerList playerList, fin
         Sponge.getCauseStackManager().popCause();
         // Send to the channel
         if (!event.isMessageCancelled()) {
-            event.getChannel().ifPresent(channel -> channel.send(player, event.getMessage()));
+            event.getChannel().ifPresent(channel -> ChatUtil.send(channel, player, event.getMessage(), ChatTypes.SYSTEM));
         }
         // Sponge end
     }
@@ -142,6 +142,27 @@ public boolean setBlock(int x, int y, int z, BlockState block) {
         return true;
     }
 
+    /**
+     * Sets the block at the given position by its id in the current
+     * {@link #getPalette() palette}, skipping the palette lookup of
+     * {@link #setBlock(int, int, int, BlockState)}. Used when bulk loading
+     * ids that were already resolved against this palette.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param id The palette id of the block
+     */
+    public void setBlockId(int x, int y, int z, int id) {
+        if (id > this.data.getMax()) {
+            // Needs the backing data to grow, so let the palette handle it
+            setBlock(x, y, z, this.palette.get(id).orElse(AIR));
+            return;
+        }
+        checkRange(x, y, z);
+        this.data.set(getIndex(x, y, z), id);
+    }
+
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
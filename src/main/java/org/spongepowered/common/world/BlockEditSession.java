@@ -0,0 +1,238 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.util.Constants;
+
+import javax.annotation.Nullable;
+
+/**
+ * Applies many block changes to a world at once, writing the states straight
+ * into the chunk sections instead of going through the per block change
+ * pipeline of the world.
+ *
+ * <p>All follow up work is deferred until the session is closed: heightmaps
+ * and sky light are regenerated once per changed chunk, light is only rechecked where the
+ * emitted light or the opacity changed, every changed chunk is resent to its
+ * players once with only the changed sections, and neighbor notifications,
+ * when enabled, are only sent to blocks outside of the edited set.</p>
+ *
+ * <p>Changes made by an untracked session bypass the phase tracker, so they
+ * neither throw {@code ChangeBlockEvent}s nor record owners and notifiers.
+ * A tracked session routes every change through the regular world methods,
+ * which keeps cause tracking for the whole batch at the usual cost. Blocks
+ * with tile entities are always changed through the world.</p>
+ *
+ * <p>Sessions are not thread safe and have to be used on the main thread.</p>
+ */
+public final class BlockEditSession implements AutoCloseable {
+
+    private final WorldServer world;
+    private final boolean tracked;
+    private final boolean notifyNeighbors;
+
+    // Changed section mask per chunk
+    private final Long2IntMap changedSections = new Long2IntOpenHashMap();
+    // Positions where the emitted light or the light opacity changed
+    private final LongList lightChecks = new LongArrayList();
+    // Every changed position, only kept when neighbors are notified
+    @Nullable private final LongSet changedPositions;
+    @Nullable private Chunk lastChunk;
+    private boolean closed;
+
+    /**
+     * Creates a new session.
+     *
+     * @param world The world to change
+     * @param tracked Whether the changes go through the phase tracker, which
+     *     throws events and tracks the causes of every change
+     * @param notifyNeighbors Whether blocks next to the changed ones are
+     *     notified once the session is closed
+     */
+    public BlockEditSession(WorldServer world, boolean tracked, boolean notifyNeighbors) {
+        this.world = checkNotNull(world, "world");
+        this.tracked = tracked;
+        this.notifyNeighbors = notifyNeighbors;
+        this.changedPositions = notifyNeighbors && !tracked ? new LongOpenHashSet() : null;
+    }
+
+    public WorldServer getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Sets the block state at the given position.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param state The new block state
+     * @return Whether the block state changed
+     */
+    public boolean setBlock(int x, int y, int z, IBlockState state) {
+        checkState(!this.closed, "The session is already closed");
+        checkNotNull(state, "state");
+        if (y < 0 || y > 255 || x < -30000000 || z < -30000000 || x >= 30000000 || z >= 30000000) {
+            throw new PositionOutOfBoundsException(new Vector3i(x, y, z), Constants.World.BLOCK_MIN, Constants.World.BLOCK_MAX);
+        }
+        if (this.tracked) {
+            return this.world.setBlockState(new BlockPos(x, y, z), state,
+                this.notifyNeighbors ? Constants.BlockChangeFlags.ALL : Constants.BlockChangeFlags.NONE);
+        }
+
+        final Chunk chunk = getChunk(x >> 4, z >> 4);
+        final int sectionIndex = y >> 4;
+        ExtendedBlockStorage section = chunk.getBlockStorageArray()[sectionIndex];
+        final IBlockState current = section == null ? null : section.get(x & 15, y & 15, z & 15);
+        if (current == state) {
+            return false;
+        }
+        if (current == null && state.getBlock() == Blocks.AIR) {
+            // Nothing to clear in an empty section
+            return false;
+        }
+
+        final BlockPos pos = new BlockPos(x, y, z);
+        if ((current != null && SpongeImplHooks.hasBlockTileEntity(current.getBlock(), current))
+            || SpongeImplHooks.hasBlockTileEntity(state.getBlock(), state)) {
+            // Tile entities need to be created and removed by the world
+            if (!this.world.setBlockState(pos, state, Constants.BlockChangeFlags.NONE)) {
+                return false;
+            }
+        } else {
+            if (section == null) {
+                section = chunk.getBlockStorageArray()[sectionIndex] = new ExtendedBlockStorage(sectionIndex << 4, this.world.provider.hasSkyLight());
+            }
+            section.set(x & 15, y & 15, z & 15, state);
+            chunk.markDirty();
+        }
+
+        final long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+        this.changedSections.put(chunkKey, this.changedSections.get(chunkKey) | 1 << sectionIndex);
+        if (current == null
+            || SpongeImplHooks.getChunkPosLight(current, this.world, pos) != SpongeImplHooks.getChunkPosLight(state, this.world, pos)
+            || SpongeImplHooks.getBlockLightOpacity(current, this.world, pos) != SpongeImplHooks.getBlockLightOpacity(state, this.world, pos)) {
+            this.lightChecks.add(pos.toLong());
+        }
+        if (this.changedPositions != null) {
+            this.changedPositions.add(pos.toLong());
+        }
+        return true;
+    }
+
+    private Chunk getChunk(int chunkX, int chunkZ) {
+        final Chunk last = this.lastChunk;
+        if (last != null && last.x == chunkX && last.z == chunkZ) {
+            return last;
+        }
+        return this.lastChunk = this.world.getChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * Applies the deferred updates of all changes made so far: heightmaps,
+     * light, neighbor notifications and client updates.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (this.tracked || this.changedSections.isEmpty()) {
+            return;
+        }
+
+        for (Long2IntMap.Entry entry : this.changedSections.long2IntEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            getChunk((int) chunkKey, (int) (chunkKey >> 32)).generateSkylightMap();
+        }
+        for (int i = 0, size = this.lightChecks.size(); i < size; i++) {
+            this.world.checkLight(BlockPos.fromLong(this.lightChecks.getLong(i)));
+        }
+
+        if (this.changedPositions != null) {
+            notifyNeighbors(this.changedPositions);
+        }
+
+        for (Long2IntMap.Entry entry : this.changedSections.long2IntEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final int chunkX = (int) chunkKey;
+            final int chunkZ = (int) (chunkKey >> 32);
+            final PlayerChunkMapEntry playerEntry = this.world.getPlayerChunkMap().getEntry(chunkX, chunkZ);
+            if (playerEntry == null || !playerEntry.isSentToPlayers()) {
+                continue;
+            }
+            final Chunk chunk = getChunk(chunkX, chunkZ);
+            final int mask = entry.getIntValue();
+            if (mask == Constants.Networking.Packets.CHANGED_SECTION_FILTER_ALL) {
+                // A mask of all sections would be sent as a full chunk, which makes the client
+                // replace its chunk instance, see MixinWorldServer_API#regenerateChunk
+                playerEntry.sendPacket(new SPacketChunkData(chunk, mask & ~1));
+                playerEntry.sendPacket(new SPacketChunkData(chunk, 1));
+            } else {
+                playerEntry.sendPacket(new SPacketChunkData(chunk, mask));
+            }
+        }
+        this.lastChunk = null;
+    }
+
+    private void notifyNeighbors(LongSet changed) {
+        final BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+        for (LongIterator iterator = changed.iterator(); iterator.hasNext(); ) {
+            final BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+            final IBlockState state = this.world.getBlockState(pos);
+            for (EnumFacing facing : Constants.World.NOTIFY_DIRECTIONS) {
+                neighbor.setPos(pos.getX() + facing.getXOffset(), pos.getY() + facing.getYOffset(), pos.getZ() + facing.getZOffset());
+                // Blocks within the edit were set explicitly and are not notified by each other
+                if (!changed.contains(neighbor.toLong())) {
+                    this.world.neighborChanged(neighbor.toImmutable(), state.getBlock(), pos);
+                }
+            }
+        }
+    }
+}
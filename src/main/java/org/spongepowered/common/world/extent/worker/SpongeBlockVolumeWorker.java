@@ -31,6 +31,7 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -67,25 +68,17 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         final int yOffset = offset.getY();
         final int zOffset = offset.getZ();
         final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
-        final int xMin = unmodifiableVolume.getBlockMin().getX();
-        final int yMin = unmodifiableVolume.getBlockMin().getY();
-        final int zMin = unmodifiableVolume.getBlockMin().getZ();
-        final int xMax = unmodifiableVolume.getBlockMax().getX();
-        final int yMax = unmodifiableVolume.getBlockMax().getY();
-        final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        final Vector3i min = unmodifiableVolume.getBlockMin();
+        final Vector3i max = unmodifiableVolume.getBlockMax();
         // a single go, requiring only one event
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             phaseState.buildAndSwitch();
-            for (int z = zMin; z <= zMax; z++) {
-                for (int y = yMin; y <= yMax; y++) {
-                    for (int x = xMin; x <= xMax; x++) {
-                        final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
+            forEachPosition(min.add(offset), max.add(offset), destination instanceof Extent, (x, y, z) -> {
+                final BlockState block = mapper.map(unmodifiableVolume, x - xOffset, y - yOffset, z - zOffset);
 
-                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block);
-                    }
-                }
-            }
+                destination.setBlock(x, y, z, block);
+            });
         }
     }
 
@@ -100,47 +93,31 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int yOffsetDestination = offsetDestination.getY();
         final int zOffsetDestination = offsetDestination.getZ();
         final UnmodifiableBlockVolume firstUnmodifiableVolume = this.volume.getUnmodifiableBlockView();
-        final int xMin = firstUnmodifiableVolume.getBlockMin().getX();
-        final int yMin = firstUnmodifiableVolume.getBlockMin().getY();
-        final int zMin = firstUnmodifiableVolume.getBlockMin().getZ();
-        final int xMax = firstUnmodifiableVolume.getBlockMax().getX();
-        final int yMax = firstUnmodifiableVolume.getBlockMax().getY();
-        final int zMax = firstUnmodifiableVolume.getBlockMax().getZ();
+        final Vector3i min = firstUnmodifiableVolume.getBlockMin();
+        final Vector3i max = firstUnmodifiableVolume.getBlockMax();
         final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             context.buildAndSwitch();
-            for (int z = zMin; z <= zMax; z++) {
-                for (int y = yMin; y <= yMax; y++) {
-                    for (int x = xMin; x <= xMax; x++) {
-                        final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
-                            secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block);
-                    }
-                }
-            }
+            forEachPosition(min.add(offsetDestination), max.add(offsetDestination), destination instanceof Extent, (xDest, yDest, zDest) -> {
+                final int x = xDest - xOffsetDestination;
+                final int y = yDest - yOffsetDestination;
+                final int z = zDest - zOffsetDestination;
+                final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
+                    secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                destination.setBlock(xDest, yDest, zDest, block);
+            });
         }
     }
 
     @Override
     public void iterate(BlockVolumeVisitor<V> visitor) {
-        final int xMin = this.volume.getBlockMin().getX();
-        final int yMin = this.volume.getBlockMin().getY();
-        final int zMin = this.volume.getBlockMin().getZ();
-        final int xMax = this.volume.getBlockMax().getX();
-        final int yMax = this.volume.getBlockMax().getY();
-        final int zMax = this.volume.getBlockMax().getZ();
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
             BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
                 .source(this)) {
             context.buildAndSwitch();
-            for (int z = zMin; z <= zMax; z++) {
-                for (int y = yMin; y <= yMax; y++) {
-                    for (int x = xMin; x <= xMax; x++) {
-                        visitor.visit(this.volume, x, y, z);
-                    }
-                }
-            }
+            forEachPosition(this.volume.getBlockMin(), this.volume.getBlockMax(), this.volume instanceof Extent,
+                (x, y, z) -> visitor.visit(this.volume, x, y, z));
         }
     }
 
@@ -164,6 +141,47 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Visits every position between the two corners. When the target is an
+     * {@link Extent}, positions are visited one chunk column at a time, in
+     * the same y, z, x order as the chunk section storage, so that every
+     * block of a chunk is processed before moving on to the next one
+     * instead of looking up a different chunk for every single block.
+     */
+    static void forEachPosition(Vector3i min, Vector3i max, boolean chunkAligned, PositionVisitor visitor) {
+        final int xMin = min.getX();
+        final int yMin = min.getY();
+        final int zMin = min.getZ();
+        final int xMax = max.getX();
+        final int yMax = max.getY();
+        final int zMax = max.getZ();
+        if (!chunkAligned) {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        visitor.visit(x, y, z);
+                    }
+                }
+            }
+            return;
+        }
+        for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+            final int zStart = Math.max(zMin, chunkZ << 4);
+            final int zEnd = Math.min(zMax, (chunkZ << 4) + 15);
+            for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+                final int xStart = Math.max(xMin, chunkX << 4);
+                final int xEnd = Math.min(xMax, (chunkX << 4) + 15);
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int z = zStart; z <= zEnd; z++) {
+                        for (int x = xStart; x <= xEnd; x++) {
+                            visitor.visit(x, y, z);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -172,4 +190,11 @@ private Vector3i align(BlockVolume other) {
         return other.getBlockMin().sub(this.volume.getBlockMin());
     }
 
+    @FunctionalInterface
+    interface PositionVisitor {
+
+        void visit(int x, int y, int z);
+
+    }
+
 }
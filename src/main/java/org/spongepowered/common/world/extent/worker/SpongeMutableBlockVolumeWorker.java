@@ -25,6 +25,7 @@
 package org.spongepowered.common.world.extent.worker;
 
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
@@ -40,19 +41,9 @@ public SpongeMutableBlockVolumeWorker(V volume) {
 
     @Override
     public void fill(BlockVolumeFiller filler) {
-        final int xMin = this.volume.getBlockMin().getX();
-        final int yMin = this.volume.getBlockMin().getY();
-        final int zMin = this.volume.getBlockMin().getZ();
-        final int xMax = this.volume.getBlockMax().getX();
-        final int yMax = this.volume.getBlockMax().getY();
-        final int zMax = this.volume.getBlockMax().getZ();
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = filler.produce(x, y, z);
-                    this.volume.setBlock(x, y, z, block);
-                }
-            }
-        }
+        forEachPosition(this.volume.getBlockMin(), this.volume.getBlockMax(), this.volume instanceof Extent, (x, y, z) -> {
+            final BlockState block = filler.produce(x, y, z);
+            this.volume.setBlock(x, y, z, block);
+        });
     }
 }
@@ -118,7 +118,7 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
 
     protected Random rand;
     private NoiseGeneratorPerlin noise4;
-    private double[] stoneNoise;
+    private final ThreadLocal<TerrainBuffers> terrainBuffers = ThreadLocal.withInitial(TerrainBuffers::new);
 
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
     protected Timing chunkGeneratorTiming;
@@ -136,7 +136,6 @@ public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerato
         this.biomeSettings = Maps.newHashMap();
         this.rand = new Random(world.getSeed());
         this.noise4 = new NoiseGeneratorPerlin(this.rand, 4);
-        this.stoneNoise = new double[256];
 
         this.world.provider.biomeProvider = CustomBiomeProvider.of(this.biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
@@ -238,10 +237,15 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
 
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ) {
-        this.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        // The terrain stage only uses buffers confined to the calling thread, the
+        // shared random and biome cache are left to the populators.
+        final TerrainBuffers buffers = this.terrainBuffers.get();
+        final Random rand = buffers.rand;
+        final ObjectArrayMutableBiomeBuffer cachedBiomes = buffers.biomes;
+        rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
+        cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+        this.biomeGenerator.generateBiomes(cachedBiomes);
+        ImmutableBiomeVolume biomeBuffer = cachedBiomes.getImmutableBiomeCopy();
 
         // Generate base terrain
         ChunkPrimer chunkprimer = new ChunkPrimer();
@@ -249,7 +253,7 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
         this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
 
         if (!(this.baseGenerator instanceof SpongeGenerationPopulator)) {
-            this.replaceBiomeBlocks(this.world, this.rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
+            this.replaceBiomeBlocks(this.world, rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
         }
 
         // Apply the generator populators to complete the blockBuffer
@@ -262,7 +266,7 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
         BiomeType biome;
         for (int x = 0; x < 16; x++) {
             for (int z = 0; z < 16; z++) {
-                biome = this.cachedBiomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
+                biome = cachedBiomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
                 if (!uniqueBiomes.contains(biome)) {
                     uniqueBiomes.add(biome);
                 }
@@ -284,7 +288,7 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
             ((ChunkBridge) chunk).fill(chunkprimer);
         } else {
             chunk = new Chunk(this.world, chunkprimer, chunkX, chunkZ);
-            this.cachedBiomes.fill(chunk.getBiomeArray());
+            cachedBiomes.fill(chunk.getBiomeArray());
         }
         chunk.generateSkylightMap();
         return chunk;
@@ -542,12 +546,13 @@ public void recreateStructures(Chunk chunkIn, int x, int z) {
 
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes) {
         double d0 = 0.03125D;
-        this.stoneNoise = this.noise4.getRegion(this.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        final TerrainBuffers buffers = this.terrainBuffers.get();
+        final double[] stoneNoise = buffers.stoneNoise = this.noise4.getRegion(buffers.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
         Vector3i min = biomes.getBiomeMin();
         for (int x0 = 0; x0 < 16; ++x0) {
             for (int z0 = 0; z0 < 16; ++z0) {
                 BiomeType biomegenbase = biomes.getBiome(min.getX() + x0, 0, min.getZ() + z0);
-                this.generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, this.stoneNoise[x0 + z0 * 16],
+                this.generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, stoneNoise[x0 + z0 * 16],
                         this.getBiomeSettings(biomegenbase).getGroundCoverLayers());
             }
         }
@@ -619,4 +624,15 @@ public void generateBiomeTerrain(World worldIn, Random rand, ChunkPrimer chunk,
         }
     }
 
+    /**
+     * The mutable state used while generating the terrain of one chunk.
+     */
+    private static final class TerrainBuffers {
+
+        final Random rand = new Random();
+        final ObjectArrayMutableBiomeBuffer biomes = new ObjectArrayMutableBiomeBuffer(Vector3i.ZERO, CHUNK_AREA);
+        double[] stoneNoise = new double[256];
+
+    }
+
 }
@@ -30,6 +30,8 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -44,12 +46,15 @@
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.world.chunk.ServerChunkProviderBridge;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -63,6 +68,8 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
+    // How many steps of the spiral have their chunk existence checked ahead of time
+    private static final int LOOKAHEAD_STEPS = 64;
 
     private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -97,6 +104,9 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
 
+    // Steps of the spiral whose existence checks have been submitted to the async scheduler
+    private final Deque<Step> pendingSteps = new ArrayDeque<>();
+
     // Used for wall clock times.
     private long generationStartTime = 0;
     private long generationEndTime = 0;
@@ -240,28 +250,34 @@ public void accept(Task task) {
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
-            final Vector3i position = nextChunkPosition();
-            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
-            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
-            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+        queueSteps();
+        while (!this.pendingSteps.isEmpty() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime)) {
+            final Step step = this.pendingSteps.peek();
+            if (!step.allChunksExist.isDone()) {
+                // The region files are still being checked, carry on next time.
+                break;
+            }
+            this.pendingSteps.poll();
 
             // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
+            if (!step.allChunksExist.getNow(false)) {
 
                 // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
-
-                count += this.currentGenCount;
+                for (Vector3i position : step.positions) {
+                    this.world.loadChunk(position, true);
+                }
+                for (Vector3i position : step.positions) {
+                    unloadIfSettled(position);
+                }
+
+                count += step.genCount;
             } else {
 
                 // Skipped them, log this.
-                skipped += this.currentGenCount;
+                skipped += step.genCount;
             }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+            queueSteps();
+        }
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
@@ -282,7 +298,7 @@ public void accept(Task task) {
             return;
         }
 
-        if (!hasNextChunkPosition()) {
+        if (!hasNextChunkPosition() && this.pendingSteps.isEmpty()) {
             // Generation has completed.
             Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventComplete(
                     this.cause,
@@ -296,6 +312,68 @@ public void accept(Task task) {
         }
     }
 
+    /**
+     * Gets the average number of chunks generated per second since the
+     * task started.
+     *
+     * @return The chunks generated per second
+     */
+    public double getChunksPerSecond() {
+        final long millis = getTotalTime().toMillis();
+        return millis <= 0 ? 0 : this.chunksGenerated * 1000.0 / millis;
+    }
+
+    /**
+     * Gets the number of steps whose chunks are being checked for existence
+     * ahead of generation.
+     *
+     * @return The number of queued steps
+     */
+    public int getQueuedSteps() {
+        return this.pendingSteps.size();
+    }
+
+    private void queueSteps() {
+        while (this.pendingSteps.size() < LOOKAHEAD_STEPS && hasNextChunkPosition()) {
+            final Vector3i position = nextChunkPosition();
+            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
+            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+            // Checking the region files is blocking IO, so it is kept away from the main thread
+            final CompletableFuture<Boolean> allChunksExist =
+                    SpongeImpl.getScheduler().submitAsyncTask(() -> areAllChunksLoaded(position, pos1, pos2, pos3));
+            this.pendingSteps.add(new Step(new Vector3i[] {position, pos1, pos2, pos3}, this.currentGenCount, allChunksExist));
+        }
+    }
+
+    /**
+     * Queues the chunk for unloading once nothing generated later needs it.
+     * A chunk is only written to by the population of itself and its three
+     * neighbours towards negative x and z, so once all of those are
+     * populated it can be saved and dropped instead of waiting for the
+     * chunk GC.
+     */
+    private void unloadIfSettled(Vector3i position) {
+        final WorldServer worldServer = (WorldServer) this.world;
+        final int x = position.getX();
+        final int z = position.getZ();
+        if (worldServer.getPlayerChunkMap().contains(x, z)) {
+            return;
+        }
+        for (int i = 0; i <= 1; i++) {
+            for (int j = 0; j <= 1; j++) {
+                final Chunk chunk = ((ChunkProviderBridge) worldServer.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(x - i, z - j);
+                if (chunk == null || !chunk.isTerrainPopulated()) {
+                    return;
+                }
+            }
+        }
+        final Chunk chunk = ((ChunkProviderBridge) worldServer.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(x, z);
+        if (chunk != null && !chunk.unloadQueued) {
+            worldServer.getChunkProvider().queueUnload(chunk);
+        }
+    }
+
     private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
         return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
                 this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
@@ -364,6 +442,20 @@ private boolean checkChunkExistsAnvil(Vector3i v) {
         }
     }
 
+    private static final class Step {
+
+        final Vector3i[] positions;
+        final int genCount;
+        final CompletableFuture<Boolean> allChunksExist;
+
+        Step(Vector3i[] positions, int genCount, CompletableFuture<Boolean> allChunksExist) {
+            this.positions = positions;
+            this.genCount = genCount;
+            this.allChunksExist = allChunksExist;
+        }
+
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
@@ -401,11 +493,13 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                        logger.info("Generated {} chunks in {}, {}% complete ({} chunks/s, {} steps queued)", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
                             GenericMath.floor(
                                 100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks())
+                                    / post.getChunkPreGenerate().getTargetTotalChunks()),
+                            String.format("%.1f", task.getChunksPerSecond()), task.getQueuedSteps()
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.entity.SpongeEntityArchetype;
+import org.spongepowered.common.world.BlockEditSession;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Applies a {@link SpongeArchetypeVolume} to a world over as many ticks as
+ * needed, spending at most a fixed amount of time per tick.
+ *
+ * <p>Blocks are written one chunk column at a time, bottom to top, through a
+ * {@link BlockEditSession} per tick, so the heightmap and sky light map of
+ * every touched chunk are regenerated and the chunk is resent once per tick
+ * instead of once per block. Light is still rechecked for every changed block
+ * whose light opacity or emitted light changed. Tile entities and entities
+ * are applied after all blocks are in place.</p>
+ */
+final class ArchetypeVolumeApplier implements Consumer<Task> {
+
+    private final SpongeArchetypeVolume volume;
+    private final Location<World> location;
+    private final WorldServer world;
+    private final boolean notifyNeighbors;
+    private final long budgetNanos;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    // The world area covered by the volume
+    private final Vector3i worldMin;
+    private final Vector3i worldMax;
+    private final Vector3i offset;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    // The next chunk column to write
+    private int chunkX;
+    private int chunkZ;
+    private final Iterator<Map.Entry<Vector3i, TileEntityArchetype>> tiles;
+
+    ArchetypeVolumeApplier(SpongeArchetypeVolume volume, Location<World> location, BlockChangeFlag changeFlag, long budgetMillis) {
+        this.volume = volume;
+        this.location = location;
+        this.world = (WorldServer) location.getExtent();
+        this.notifyNeighbors = changeFlag.updateNeighbors();
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.offset = location.getBlockPosition();
+        this.worldMin = volume.getBlockMin().add(this.offset);
+        this.worldMax = volume.getBlockMax().add(this.offset);
+        this.minChunkX = this.worldMin.getX() >> 4;
+        this.minChunkZ = this.worldMin.getZ() >> 4;
+        this.maxChunkX = this.worldMax.getX() >> 4;
+        this.maxChunkZ = this.worldMax.getZ() >> 4;
+        this.chunkX = this.minChunkX;
+        this.chunkZ = this.minChunkZ;
+        this.tiles = volume.getTileEntityArchetypes().entrySet().iterator();
+    }
+
+    CompletableFuture<Void> start() {
+        Task.builder()
+            .name("Sponge - Archetype Volume Apply")
+            .intervalTicks(1)
+            .execute(this)
+            .submit(SpongeImpl.getPlugin());
+        return this.future;
+    }
+
+    @Override
+    public void accept(Task task) {
+        final long deadline = System.nanoTime() + this.budgetNanos;
+        try {
+            if (this.chunkX <= this.maxChunkX) {
+                try (BlockEditSession session = new BlockEditSession(this.world, false, this.notifyNeighbors)) {
+                    do {
+                        writeColumn(session);
+                        if (++this.chunkZ > this.maxChunkZ) {
+                            this.chunkZ = this.minChunkZ;
+                            this.chunkX++;
+                        }
+                    } while (this.chunkX <= this.maxChunkX && System.nanoTime() < deadline);
+                }
+                return;
+            }
+            while (this.tiles.hasNext()) {
+                final Map.Entry<Vector3i, TileEntityArchetype> entry = this.tiles.next();
+                entry.getValue().apply(this.location.add(entry.getKey()));
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+            }
+            applyEntities();
+            task.cancel();
+            this.future.complete(null);
+        } catch (Throwable t) {
+            task.cancel();
+            this.future.completeExceptionally(t);
+        }
+    }
+
+    private void writeColumn(BlockEditSession session) {
+        final int minX = Math.max(this.chunkX << 4, this.worldMin.getX());
+        final int maxX = Math.min((this.chunkX << 4) + 15, this.worldMax.getX());
+        final int minZ = Math.max(this.chunkZ << 4, this.worldMin.getZ());
+        final int maxZ = Math.min((this.chunkZ << 4) + 15, this.worldMax.getZ());
+        for (int y = this.worldMin.getY(); y <= this.worldMax.getY(); y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    final IBlockState state = (IBlockState) this.volume.getBlock(x - this.offset.getX(), y - this.offset.getY(), z - this.offset.getZ());
+                    session.setBlock(x, y, z, state);
+                }
+            }
+        }
+    }
+
+    private void applyEntities() {
+        if (this.volume.getEntityArchetypes().isEmpty()) {
+            return;
+        }
+        try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            frame.addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.PLUGIN);
+            for (EntityArchetype entity : this.volume.getEntityArchetypes()) {
+                final Vector3d vector3d = ((SpongeEntityArchetype) entity).getPosition().get();
+                entity.apply(this.location.add(vector3d));
+            }
+        }
+    }
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.world.schematic;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ArrayListMultimap;
@@ -60,6 +62,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class SpongeArchetypeVolume extends AbstractBlockBuffer implements ArchetypeVolume {
 
@@ -149,6 +152,26 @@ public void apply(Location<World> location, BlockChangeFlag changeFlag) {
         }
     }
 
+    /**
+     * Applies this volume like {@link #apply(Location, BlockChangeFlag)}, but
+     * writes the blocks chunk by chunk straight into the chunk sections and
+     * spreads the work over as many ticks as needed. Changes made this way do
+     * not throw block change events.
+     *
+     * <p>This is an internal entry point, it is not exposed through the API
+     * and nothing in the implementation calls it yet.</p>
+     *
+     * @param location The location to apply the volume at
+     * @param changeFlag The change flag, only used to decide whether neighbors
+     *     are notified
+     * @param tickBudgetMillis The time to spend applying the volume per tick
+     * @return A future completed on the main thread once everything is applied
+     */
+    public CompletableFuture<Void> applyBatched(Location<World> location, BlockChangeFlag changeFlag, long tickBudgetMillis) {
+        checkArgument(tickBudgetMillis > 0, "tickBudgetMillis must be greater than zero");
+        return new ArchetypeVolumeApplier(this, location, changeFlag, tickBudgetMillis).start();
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block) {
         this.backing.setBlock(x, y, z, block);
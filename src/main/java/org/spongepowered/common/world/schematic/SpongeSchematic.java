@@ -38,6 +38,7 @@
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -66,6 +67,10 @@ public class SpongeSchematic extends SpongeArchetypeVolume implements Schematic
     @Override
     public void apply(Location<World> location, BlockChangeFlag changeFlag) {
         super.apply(location, changeFlag);
+        applyBiomes(location);
+    }
+
+    private void applyBiomes(Location<World> location) {
         if (this.biomes != null) {
             this.biomes.getBiomeWorker().iterate((v, x, y, z) -> {
                 location.getExtent().setBiome(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBiome(x, y, z));
@@ -73,6 +78,11 @@ public void apply(Location<World> location, BlockChangeFlag changeFlag) {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> applyBatched(Location<World> location, BlockChangeFlag changeFlag, long tickBudgetMillis) {
+        return super.applyBatched(location, changeFlag, tickBudgetMillis).thenRun(() -> applyBiomes(location));
+    }
+
     @Override
     public org.spongepowered.api.world.schematic.BlockPalette getPalette() {
         return (org.spongepowered.api.world.schematic.BlockPalette) (this.overriddenBlockPalette == null
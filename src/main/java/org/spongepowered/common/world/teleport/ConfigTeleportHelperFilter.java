@@ -31,9 +31,9 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
 
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -41,11 +41,11 @@
 public class ConfigTeleportHelperFilter implements TeleportHelperFilter {
 
     // We try to cache this in case of big mod blacklists, we don't want to parse this
-    // all the time.
-    @Nullable private static List<BlockType> floorBlockTypes = null;
-    @Nullable private static List<BlockState> floorBlockStates = null;
-    @Nullable private static List<BlockType> bodyBlockTypes = null;
-    @Nullable private static List<BlockState> bodyBlockStates = null;
+    // all the time. Sets keep the lookups cheap, as a single search checks thousands of blocks.
+    @Nullable private static Set<BlockType> floorBlockTypes = null;
+    @Nullable private static Set<BlockState> floorBlockStates = null;
+    @Nullable private static Set<BlockType> bodyBlockTypes = null;
+    @Nullable private static Set<BlockState> bodyBlockStates = null;
 
     public static void invalidateCache() {
         floorBlockTypes = null;
@@ -60,22 +60,22 @@ private static void updateCacheIfNecessary() {
             floorBlockTypes = teleportHelperCat.getUnsafeFloorBlockIds().stream()
                     .map(x -> Sponge.getRegistry().getType(BlockType.class, x.toLowerCase(Locale.ENGLISH)).orElse(null))
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toSet());
 
             floorBlockStates = teleportHelperCat.getUnsafeFloorBlockIds().stream()
                     .map(x -> Sponge.getRegistry().getType(BlockState.class, x.toLowerCase(Locale.ENGLISH)).orElse(null))
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toSet());
 
             bodyBlockTypes = teleportHelperCat.getUnsafeBodyBlockIds().stream()
                     .map(x -> Sponge.getRegistry().getType(BlockType.class, x.toLowerCase(Locale.ENGLISH)).orElse(null))
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toSet());
 
             bodyBlockStates = teleportHelperCat.getUnsafeBodyBlockIds().stream()
                     .map(x -> Sponge.getRegistry().getType(BlockState.class, x.toLowerCase(Locale.ENGLISH)).orElse(null))
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toSet());
         }
     }
 
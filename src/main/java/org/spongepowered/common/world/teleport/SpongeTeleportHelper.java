@@ -43,6 +43,7 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -119,7 +120,7 @@ private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int he
 
         // The compiler seems to need this to be a new line.
         // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.getY() - x.getY())).thenComparing(x -> -x.getY());
+        c = c.thenComparingInt(x -> -Math.abs(vectorLocation.getY() - x.getY())).thenComparingInt(x -> -x.getY());
 
         // Sort them according to the distance to the provided worldLocation.
         return vectors.stream().sorted(c);
@@ -129,6 +130,8 @@ private Optional<Vector3i> getSafeLocation(World world, Stream<Vector3i> positio
             Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
         final Map<Vector3i, BlockData> blockCache = new HashMap<>();
+        // Most of the checked blocks share a handful of states, so the filters are only asked once per state.
+        final Map<BlockState, BlockData> stateCache = new IdentityHashMap<>();
 
         return positionsToCheck.filter(currentTarget -> {
             List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
@@ -151,15 +154,17 @@ private Optional<Vector3i> getSafeLocation(World world, Stream<Vector3i> positio
             }
 
             // Get the block, add it to the cache.
-            BlockData block = getBlockData(currentTarget, world, blockCache, undefinedResults);
+            // The state results can only be shared between positions that are checked against the same filters.
+            final Map<BlockState, BlockData> states = undefinedResults.size() == filters.size() ? stateCache : new IdentityHashMap<>();
+            BlockData block = getBlockData(currentTarget, world, blockCache, states, undefinedResults);
 
             // If the block isn't safe, no point in continuing on this run.
             if (block.isSafeBody) {
 
                 // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
                 if (getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+                    currentTarget.add(0, 1, 0), world, blockCache, states, undefinedResults).isSafeBody
+                        && (floorDistanceCheck <= 0 || isFloorSafe(currentTarget, world, blockCache, states, undefinedResults, floorDistanceCheck))) {
 
                     // This position should be safe. Get the center of the block to spawn into.
                     return true;
@@ -170,10 +175,10 @@ private Optional<Vector3i> getSafeLocation(World world, Stream<Vector3i> positio
         }).findFirst();
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Map<BlockState, BlockData> stateCache,
+            Collection<TeleportHelperFilter> filters, int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            BlockData data = getBlockData(currentTarget.sub(0, i, 0), world, blockCache, stateCache, filters);
 
             // If it's a safe floor, we can just say yes now.
             if (data.isSafeFloor) {
@@ -187,25 +192,32 @@ private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, B
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, stateCache, filters).isSafeFloor;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
+    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Map<BlockState, BlockData> stateCache,
+            Collection<TeleportHelperFilter> filters) {
         if (vector3i.getY() < 0) {
             // Anything below this isn't safe, no point going further.
-            return new BlockData();
+            return BlockData.UNSAFE;
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        BlockData data = cache.get(vector3i);
+        if (data == null) {
+            final BlockState state = world.getBlock(vector3i);
+            data = stateCache.get(state);
+            if (data == null) {
+                data = new BlockData(state, filters);
+                stateCache.put(state, data);
+            }
+            cache.put(vector3i, data);
         }
-
-        BlockData data = new BlockData(world.getBlock(vector3i), filters);
-        cache.put(vector3i, data);
         return data;
     }
 
-    private class BlockData {
+    private static final class BlockData {
+
+        static final BlockData UNSAFE = new BlockData();
 
         private final boolean isSafeFloor;
         private final boolean isSafeBody;
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+
+import java.lang.reflect.Field;
+
+public class CauseFilterIndexTest {
+
+    @After
+    public void clearIndex() {
+        CauseFilterIndex.clear();
+    }
+
+    @Test
+    public void testFirstAndLast() {
+        final Cause cause = Cause.of(EventContext.empty(), "Foo", 1, "Bar", 2L);
+
+        assertEquals("Foo", CauseFilterIndex.first(cause, String.class));
+        assertEquals("Bar", CauseFilterIndex.last(cause, String.class));
+        assertEquals(1, CauseFilterIndex.first(cause, Number.class));
+        assertEquals(2L, CauseFilterIndex.last(cause, Number.class));
+        assertNull(CauseFilterIndex.first(cause, Character.class));
+        assertNull(CauseFilterIndex.last(cause, Character.class));
+
+        // Repeated lookups are answered from the index
+        assertEquals("Foo", CauseFilterIndex.first(cause, String.class));
+        assertNull(CauseFilterIndex.first(cause, Character.class));
+    }
+
+    @Test
+    public void testDifferentCause() {
+        final Cause first = Cause.of(EventContext.empty(), "Foo", 'a');
+        final Cause second = Cause.of(EventContext.empty(), 'b', "Bar");
+
+        assertEquals("Foo", CauseFilterIndex.first(first, String.class));
+        assertEquals('a', CauseFilterIndex.last(first, Character.class));
+        // Nothing remembered for the previous cause may leak into the next one
+        assertEquals("Bar", CauseFilterIndex.first(second, String.class));
+        assertEquals('b', CauseFilterIndex.last(second, Character.class));
+        assertEquals("Foo", CauseFilterIndex.first(first, String.class));
+    }
+
+    @Test
+    public void testClearForgetsCause() throws Exception {
+        final Cause cause = Cause.of(EventContext.empty(), "Foo");
+        assertEquals("Foo", CauseFilterIndex.first(cause, String.class));
+        assertEquals(cause, currentCause());
+
+        CauseFilterIndex.clear();
+        assertNull(currentCause());
+        assertEquals("Foo", CauseFilterIndex.first(cause, String.class));
+    }
+
+    private static Object currentCause() throws Exception {
+        final Field current = CauseFilterIndex.class.getDeclaredField("CURRENT");
+        current.setAccessible(true);
+        final Object index = ((ThreadLocal<?>) current.get(null)).get();
+        final Field cause = CauseFilterIndex.class.getDeclaredField("cause");
+        cause.setAccessible(true);
+        return cause.get(index);
+    }
+
+}
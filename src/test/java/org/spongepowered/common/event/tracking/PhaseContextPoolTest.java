@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class PhaseContextPoolTest {
+
+    private static PhaseContextPool<BasicPluginContext> createPool() {
+        return new PhaseContextPool<>(PluginPhase.State.BLOCK_WORKER::createPhaseContext);
+    }
+
+    @Test
+    public void testCompletedContextIsReused() {
+        final PhaseContextPool<BasicPluginContext> pool = createPool();
+        final BasicPluginContext context = pool.acquire();
+        context.source(this);
+        context.isCompleted = true;
+
+        pool.release(context);
+        assertEquals(1, pool.size());
+        assertSame(context, pool.acquire());
+        assertEquals(0, pool.size());
+        assertNotSame(context, pool.acquire());
+    }
+
+    @Test
+    public void testReleasedContextIsReset() {
+        final PhaseContextPool<BasicPluginContext> pool = createPool();
+        final BasicPluginContext context = pool.acquire();
+        context.source(this);
+        context.isCompleted = true;
+
+        pool.release(context);
+        assertFalse(context.isCompleted);
+        assertNull(context.getSource());
+        // The reset context can be populated again
+        context.source(this);
+        assertSame(this, context.getSource());
+    }
+
+    @Test
+    public void testIncompleteContextIsNotReused() {
+        final PhaseContextPool<BasicPluginContext> pool = createPool();
+        final BasicPluginContext context = pool.acquire();
+
+        pool.release(context);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testContextIsOnlyPooledOnce() {
+        final PhaseContextPool<BasicPluginContext> pool = createPool();
+        final BasicPluginContext context = pool.acquire();
+        context.isCompleted = true;
+
+        pool.release(context);
+        context.isCompleted = true;
+        pool.release(context);
+        assertEquals(1, pool.size());
+    }
+
+}
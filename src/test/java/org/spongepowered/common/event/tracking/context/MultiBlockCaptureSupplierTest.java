@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.lang.reflect.Field;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class MultiBlockCaptureSupplierTest {
+
+    private static final BlockPos SOURCE = new BlockPos(0, 64, 0);
+    private static final BlockPos NORTH = SOURCE.north();
+    private static final BlockPos EAST = SOURCE.east();
+
+    private ServerWorldBridge world;
+    private Block sourceBlock;
+    private MultiBlockCaptureSupplier supplier;
+
+    @Before
+    public void init() throws Exception {
+        this.world = (ServerWorldBridge) mock(WorldServer.class, withSettings().extraInterfaces(ServerWorldBridge.class));
+        when(this.world.bridge$getProxyAccess()).thenReturn(new SpongeProxyBlockAccess(this.world));
+        this.sourceBlock = mock(Block.class);
+        this.supplier = new MultiBlockCaptureSupplier();
+        enableDeduplication(this.supplier);
+    }
+
+    private static void enableDeduplication(MultiBlockCaptureSupplier supplier) throws Exception {
+        // Skips reading the setting from the global config on the first capture
+        final Field field = MultiBlockCaptureSupplier.class.getDeclaredField("deduplicateNotifications");
+        field.setAccessible(true);
+        field.set(supplier, Tristate.TRUE);
+    }
+
+    private boolean captureNotification(BlockPos notifyPos, Block sourceBlock) {
+        return this.supplier.captureNeighborNotification(this.world, null, notifyPos, sourceBlock, SOURCE);
+    }
+
+    @Test
+    public void testDuplicateNotificationIsDropped() {
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+        assertFalse(captureNotification(NORTH, this.sourceBlock));
+        // Other targets and other source blocks are still captured
+        assertTrue(captureNotification(EAST, this.sourceBlock));
+        assertTrue(captureNotification(NORTH, mock(Block.class)));
+    }
+
+    @Test
+    public void testCapturedChangeResetsNotifications() {
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+
+        final SpongeBlockSnapshot snapshot = mock(SpongeBlockSnapshot.class);
+        when(snapshot.getBlockPos()).thenReturn(SOURCE);
+        this.supplier.logTransaction(new BlockTransaction.ChangeBlock(0, 0, snapshot, null, null));
+
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+        assertFalse(captureNotification(NORTH, this.sourceBlock));
+    }
+
+    @Test
+    public void testClearResetsNotifications() throws Exception {
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+
+        this.supplier.clear();
+        enableDeduplication(this.supplier);
+
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+    }
+
+    @Test
+    public void testNotificationsAreKeptWithoutDeduplication() throws Exception {
+        final Field field = MultiBlockCaptureSupplier.class.getDeclaredField("deduplicateNotifications");
+        field.setAccessible(true);
+        field.set(this.supplier, Tristate.FALSE);
+
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+        assertTrue(captureNotification(NORTH, this.sourceBlock));
+    }
+
+}
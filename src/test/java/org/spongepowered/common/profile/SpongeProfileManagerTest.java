@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.ProfileNotFoundException;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SpongeProfileManagerTest {
+
+    private static GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getName()).thenReturn(Optional.ofNullable(name));
+        return profile;
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneQuery() throws Exception {
+        final ConcurrentMap<UUID, CompletableFuture<GameProfile>> pending = new ConcurrentHashMap<>();
+        final UUID uuid = UUID.randomUUID();
+        final CompletableFuture<GameProfile> query = new CompletableFuture<>();
+        final AtomicInteger queries = new AtomicInteger();
+
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Future<?>[] requests = new Future<?>[callers];
+        try {
+            for (int i = 0; i < callers; i++) {
+                requests[i] = executor.submit(() -> {
+                    start.await();
+                    return SpongeProfileManager.sharePending(pending, uuid, () -> {
+                        queries.incrementAndGet();
+                        return query;
+                    });
+                });
+            }
+            start.countDown();
+            final GameProfile result = profile("Notch");
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[callers];
+            for (int i = 0; i < callers; i++) {
+                futures[i] = (CompletableFuture<?>) requests[i].get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(1, queries.get());
+
+            query.complete(result);
+            for (CompletableFuture<?> future : futures) {
+                assertSame(result, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Completed queries aren't shared with later requests
+        assertTrue(pending.isEmpty());
+        SpongeProfileManager.sharePending(pending, uuid, () -> {
+            queries.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void testCancellingOneRequestDoesNotCancelOthers() throws Exception {
+        final ConcurrentMap<UUID, CompletableFuture<GameProfile>> pending = new ConcurrentHashMap<>();
+        final UUID uuid = UUID.randomUUID();
+        final CompletableFuture<GameProfile> query = new CompletableFuture<>();
+
+        final CompletableFuture<GameProfile> first = SpongeProfileManager.sharePending(pending, uuid, () -> query);
+        final CompletableFuture<GameProfile> second = SpongeProfileManager.sharePending(pending, uuid, () -> query);
+        assertTrue(first.cancel(true));
+
+        assertFalse(query.isDone());
+        assertFalse(second.isDone());
+        final GameProfile result = profile("Notch");
+        query.complete(result);
+        assertTrue(first.isCancelled());
+        assertSame(result, second.get());
+    }
+
+    @Test
+    public void testOnlyMissingProfilesAreRemembered() throws Exception {
+        assertFalse(SpongeProfileManager.isProfileMissing(CompletableFuture.completedFuture(profile("Notch"))));
+        assertTrue(SpongeProfileManager.isProfileMissing(CompletableFuture.completedFuture(profile(null))));
+
+        final CompletableFuture<GameProfile> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(new ProfileNotFoundException("Profile not found"));
+        assertTrue(SpongeProfileManager.isProfileMissing(notFound));
+
+        // Rate limits and connection issues are worth retrying
+        final CompletableFuture<GameProfile> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("Too many requests"));
+        assertFalse(SpongeProfileManager.isProfileMissing(failed));
+    }
+
+}
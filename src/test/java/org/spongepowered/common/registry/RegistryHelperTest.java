@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class RegistryHelperTest {
+
+    @Test
+    public void testLowerCaseIdIsReturnedAsIs() {
+        final String id = "minecraft:stone_brick_stairs";
+        assertSame(id, RegistryHelper.toLowerCaseId(id));
+        final String symbols = "sponge:123-_./";
+        assertSame(symbols, RegistryHelper.toLowerCaseId(symbols));
+    }
+
+    @Test
+    public void testUpperCaseIdIsLowerCased() {
+        assertEquals("minecraft:stone", RegistryHelper.toLowerCaseId("Minecraft:STONE"));
+        assertEquals("sponge:z", RegistryHelper.toLowerCaseId("sponge:Z"));
+    }
+
+    @Test
+    public void testNonAsciiIdIsLowerCasedInEnglish() {
+        assertEquals("plugin:\u00e9t\u00e9", RegistryHelper.toLowerCaseId("plugin:\u00c9T\u00c9"));
+        // Not lower cased with the Turkish dotless i, whatever the default locale
+        assertEquals("plugin:item", RegistryHelper.toLowerCaseId("plugin:ITEM"));
+    }
+
+}